@@ -0,0 +1,97 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import model.entity.Board;
+import model.entity.BoardGame;
+import model.entity.Player;
+import model.entity.Tile;
+import model.factory.BoardGameFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for tile lookup, player movement and winner checks on the easy board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+  private BoardGame game;
+  private Board board;
+  private Player player;
+  private Tile startTile;
+
+  /**
+   * Creates the easy board with two silent players.
+   */
+  @Setup
+  public void setUp() {
+    game = BoardGameFactory.createSnakesAndLadders(2);
+    board = game.getBoard();
+    player = new SilentPlayer("Bench 1", board);
+    game.addPlayer(player);
+    game.addPlayer(new SilentPlayer("Bench 2", board));
+    startTile = board.getTile(1);
+  }
+
+  /**
+   * Looks up every tile on the board once.
+   */
+  @Benchmark
+  public void getTile(Blackhole blackhole) {
+    for (int id = 1; id <= 90; id++) {
+      blackhole.consume(board.getTile(id));
+    }
+  }
+
+  /**
+   * Moves a player from every tile on the board with every roll of two dice.
+   */
+  @Benchmark
+  public int moveAcrossBoard() {
+    int sum = 0;
+    for (int id = 1; id <= 90; id++) {
+      Tile tile = board.getTile(id);
+      for (int roll = 2; roll <= 12; roll++) {
+        player.setCurrentTile(tile);
+        player.move(roll);
+        sum += player.getCurrentTile().getTileId();
+      }
+    }
+    player.setCurrentTile(startTile);
+    return sum;
+  }
+
+  @Benchmark
+  public Player getWinner() {
+    return game.getWinner();
+  }
+
+  /**
+   * A player that does not print tile action messages.
+   */
+  static class SilentPlayer extends Player {
+
+    SilentPlayer(String name, Board board) {
+      super(name, board, "Car");
+    }
+
+    @Override
+    public void sendMessage(String message) {
+      // Benchmarks are silent
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import model.util.BoardConfigLoader;
+import model.util.BoardConfigLoader.TileConfig;
+import model.util.BoardConfigRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for loading the board configurations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLoaderBenchmark {
+
+  @Param({
+      "config/snakes_and_ladders/sl_easy_config.json",
+      "config/snakes_and_ladders/sl_hard_config.json"
+  })
+  private String configPath;
+
+  @Benchmark
+  public Map<Integer, TileConfig> loadConfig() {
+    return BoardConfigLoader.loadConfig(configPath);
+  }
+
+  @Benchmark
+  public Map<Integer, TileConfig> registryGet() {
+    return BoardConfigRegistry.get(configPath);
+  }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import model.entity.Dice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for rolling dice and reading the rolled values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+
+  @Param({"1", "2", "5"})
+  private int numberOfDice;
+
+  private Dice dice;
+  private int[] values;
+
+  /**
+   * Creates the dice and rolls them once, so the values can be read.
+   */
+  @Setup
+  public void setUp() {
+    dice = new Dice(numberOfDice, 6);
+    dice.rollDice();
+    values = new int[numberOfDice];
+  }
+
+  @Benchmark
+  public int rollDice() {
+    return dice.rollDice();
+  }
+
+  @Benchmark
+  public List<Integer> getDiceValues() {
+    return dice.getDiceValues();
+  }
+
+  @Benchmark
+  public int getDiceValuesIntoArray() {
+    return dice.getDiceValues(values);
+  }
+
+  @Benchmark
+  public int getFaceCount() {
+    return dice.getFaceCount(6);
+  }
+}
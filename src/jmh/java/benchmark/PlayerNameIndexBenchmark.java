@@ -0,0 +1,63 @@
+package benchmark;
+
+import controller.PlayerNameIndex;
+import controller.PlayerRecord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for suggesting saved players from a large roster.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerNameIndexBenchmark {
+
+  @Param({"1000000"})
+  private int players;
+
+  @Param({"a", "mar", "zzq"})
+  private String prefix;
+
+  private PlayerNameIndex index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    index = new PlayerNameIndex();
+    List<PlayerRecord> batch = new ArrayList<>(500);
+    for (int i = 0; i < players; i++) {
+      char[] name = new char[4 + random.nextInt(6)];
+      for (int c = 0; c < name.length; c++) {
+        name[c] = (char) ('a' + random.nextInt(26));
+      }
+      batch.add(new PlayerRecord(new String(name) + i, "Car"));
+      if (batch.size() == 500) {
+        index.addAll(batch);
+        batch.clear();
+      }
+    }
+    index.addAll(batch);
+  }
+
+  @Benchmark
+  public List<PlayerRecord> suggest() {
+    return index.suggest(prefix, 10);
+  }
+}
@@ -0,0 +1,58 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import model.entity.BoardGame;
+import model.factory.BoardGameFactory;
+import model.logic.GameSimulator;
+import model.logic.SimulationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for complete Snakes & Ladders games played to the end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayoutBenchmark {
+
+  @Param({
+      "config/snakes_and_ladders/sl_easy_config.json",
+      "config/snakes_and_ladders/sl_hard_config.json"
+  })
+  private String configPath;
+
+  @Param({"2", "5"})
+  private int numberOfPlayers;
+
+  private GameSimulator simulator;
+
+  /**
+   * Creates the game and the simulator playing it.
+   */
+  @Setup
+  public void setUp() {
+    BoardGame game = BoardGameFactory.create("snakesandladders", configPath, 2);
+    simulator = new GameSimulator(game, numberOfPlayers);
+  }
+
+  /**
+   * Plays one game until a player reaches the last tile.
+   */
+  @Benchmark
+  public SimulationResult playout() {
+    return simulator.run(1);
+  }
+}
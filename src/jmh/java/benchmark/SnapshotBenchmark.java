@@ -0,0 +1,67 @@
+package benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import model.entity.BoardGame;
+import model.entity.Player;
+import model.factory.BoardGameFactory;
+import model.util.GameSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for saving a running game to a snapshot and restoring it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+  private static final String CONFIG = "config/snakes_and_ladders/sl_easy_config.json";
+
+  private BoardGame game;
+  private BoardGame target;
+  private final ByteBuffer buffer = ByteBuffer.allocate(256);
+  private ByteBuffer saved;
+
+  @Setup
+  public void setUp() {
+    game = BoardGameFactory.createSnakesAndLadders(2);
+    String[] pieces = {"Car", "Hat", "Dog", "Ship"};
+    for (int i = 0; i < pieces.length; i++) {
+      Player player = new Player("Player " + (i + 1), game.getBoard(), pieces[i]);
+      player.setCurrentTile(game.getBoard().getTile(10 + 17 * i));
+      game.addPlayer(player);
+    }
+    game.setCurrentPlayer(game.getPlayers().getFirst());
+    game.rollDice();
+    target = BoardGameFactory.createSnakesAndLadders(2);
+
+    GameSnapshot.write(game, CONFIG, buffer);
+    saved = ByteBuffer.allocate(buffer.position());
+    saved.put(buffer.flip()).flip();
+  }
+
+  @Benchmark
+  public ByteBuffer write() {
+    buffer.clear();
+    GameSnapshot.write(game, CONFIG, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public String restore() {
+    return GameSnapshot.restore(saved.duplicate(), target);
+  }
+}
@@ -1,25 +1,28 @@
 package controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
 import javafx.scene.Scene;
-import javafx.scene.control.Alert;
-import javafx.scene.control.Alert.AlertType;
-import javafx.scene.control.Button;
-import javafx.scene.control.ButtonType;
-import javafx.scene.control.DialogPane;
 import javafx.stage.Stage;
 import model.entity.BoardGame;
+import model.entity.GameEvent;
 import model.entity.Player;
+import model.exception.InvalidSnapshotException;
 import model.factory.BoardGameFactory;
 import model.logic.GameType;
+import model.util.FileIo;
 import model.util.FullscreenHandler;
+import model.util.GameSnapshot;
+import model.util.TurnJournal;
 import view.BoardGameView;
 import view.BoardGameView.Observer;
+import view.GameOverOverlay;
 import view.PlayerView.PlayerData;
 import view.ui.MainView;
 
@@ -29,14 +32,17 @@ import view.ui.MainView;
  */
 public class BoardGameViewController implements Observer {
   private final Stage primaryStage;
-  private final List<PlayerData> playersData;
-  private final GameType gameType;
   private final Scene previousScene;
-  private final FullscreenHandler fullscreenHandler;
   private final BoardGame game;
   private final BoardGameView view;
   private static final Logger logger =
       Logger.getLogger(BoardGameViewController.class.getName());
+  private static final Path SAVE_FILE = Path.of("snakes_and_ladders.sav");
+
+  private static final Path JOURNAL_FILE = Path.of("snakes_and_ladders.journal");
+
+  private final TurnJournal journal = new TurnJournal(JOURNAL_FILE);
+  private boolean journalStarted;
 
   /**
    * Builds controller, model, view, and displays the boardgame.
@@ -48,27 +54,15 @@ public class BoardGameViewController implements Observer {
    */
   public BoardGameViewController(Stage primaryStage, List<PlayerData> playersData, GameType gameType,
       FullscreenHandler fullscreenHandler) {
+    this(primaryStage, createGame(playersData, gameType), gameType, fullscreenHandler);
+  }
+
+  private BoardGameViewController(Stage primaryStage, BoardGame game, GameType gameType,
+      FullscreenHandler fullscreenHandler) {
     this.primaryStage = primaryStage;
     this.previousScene = primaryStage.getScene();
-    this.playersData  = playersData;
-    this.gameType     = gameType;
-    this.fullscreenHandler = fullscreenHandler;
-
-    switch (gameType) {
-      case SNAKES_AND_LADDERS:
-        game = BoardGameFactory.createSnakesAndLadders(playersData.size());
-        break;
-      case QUIZ:
-        game = BoardGameFactory.createQuizGame(playersData.size());
-        break;
-      default:
-        throw new IllegalArgumentException("Invalid game type: " + gameType);
-    }
-
-    for (PlayerData pd : playersData) {
-      game.addPlayer(new Player(pd.name(), game.getBoard(), pd.piece()));
-    }
-    game.setCurrentPlayer(game.getPlayers().getFirst());
+    this.game = game;
+    game.addListener(this::journalEvent);
 
     // Initializes and shows the view
     view = new BoardGameView(game, fullscreenHandler);
@@ -92,12 +86,79 @@ public class BoardGameViewController implements Observer {
     primaryStage.show();
   }
 
+  private static BoardGame createGame(List<PlayerData> playersData, GameType gameType) {
+    BoardGame game;
+    switch (gameType) {
+      case SNAKES_AND_LADDERS:
+        game = BoardGameFactory.createSnakesAndLadders(playersData.size());
+        break;
+      case QUIZ:
+        game = BoardGameFactory.createQuizGame(playersData.size());
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid game type: " + gameType);
+    }
+
+    for (PlayerData pd : playersData) {
+      game.addPlayer(new Player(pd.name(), game.getBoard(), pd.piece()));
+    }
+    game.setCurrentPlayer(game.getPlayers().getFirst());
+    return game;
+  }
+
+  /**
+   * Resumes a Snakes and Ladders game that was cut off, e.g. by a power cut, from its turn
+   * journal. The journal is read on a background thread, and the board is shown on the JavaFX
+   * application thread if a game was recovered and the window still shows the given scene. If
+   * the user has moved on by then, the journal is left for the next start.
+   *
+   * @param primaryStage      the main application window
+   * @param startScene        the scene the game may replace
+   * @param fullscreenHandler the handler for fullscreen mode
+   * @return a future that completes with true if a game was resumed
+   */
+  public static CompletableFuture<Boolean> resumeInterruptedGame(Stage primaryStage,
+      Scene startScene, FullscreenHandler fullscreenHandler) {
+    return CompletableFuture.supplyAsync(BoardGameViewController::recoverGame, FileIo.BACKGROUND)
+        .thenApplyAsync(game -> {
+          if (game == null || primaryStage.getScene() != startScene) {
+            return false;
+          }
+          BoardGameViewController controller = new BoardGameViewController(primaryStage, game,
+              GameType.SNAKES_AND_LADDERS, fullscreenHandler);
+          controller.view.showBoard(game.getConfigPath());
+          controller.startJournal();
+          return true;
+        }, Platform::runLater);
+  }
+
+  /**
+   * Recovers the game in the turn journal, or returns null if there is none.
+   */
+  private static BoardGame recoverGame() {
+    if (!TurnJournal.canRecover(JOURNAL_FILE)) {
+      return null;
+    }
+    try {
+      BoardGame game = BoardGameFactory.createSnakesAndLadders(2);
+      String configFile = TurnJournal.recover(JOURNAL_FILE, game);
+      if (configFile != null) {
+        game.changeBoard(configFile);
+      }
+      return game;
+    } catch (IOException | UncheckedIOException | InvalidSnapshotException e) {
+      logger.log(Level.WARNING, "Error recovering interrupted game", e);
+      return null;
+    }
+  }
+
   /**
    * Called when the user clicks the "Back" button in BoardGameView.
    * Returns to the previous scene.
    */
   @Override
   public void onBack() {
+    closeJournal();
     if (previousScene != null) {
       primaryStage.setScene(previousScene);
     } else {
@@ -110,68 +171,101 @@ public class BoardGameViewController implements Observer {
    */
   @Override
   public void onRollDice() {
-    int roll = game.getDice().rollDice();
+    if (!journalStarted) {
+      startJournal();
+    }
+    int roll = game.rollDice();
     Player current = game.getCurrentplayer();
-    current.move(roll);
-    view.updateView();
+    game.movePlayer(current, roll);
 
     Player winner = game.getWinner();
     if (winner != null) {
+      game.fireEvent(GameEvent.of(GameEvent.Type.WON, winner));
       showEndGameDialog(winner.getName());
       return;
     }
 
-    List<Player> list = game.getPlayers();
-    int index = list.indexOf(current);
-    game.setCurrentPlayer(list.get((index + 1) % list.size()));
-    view.updateView();
+    game.nextTurn();
+  }
+
+  /**
+   * Called when the user chooses the easy or hard board. Builds the board of the game from the
+   * chosen configuration, so the game is played, saved and resumed on the board that is shown.
+   *
+   * @param configFile the path to the configuration file
+   */
+  @Override
+  public void onBoardChosen(String configFile) {
+    game.changeBoard(configFile);
+  }
+
+  /**
+   * Called when the user clicks the "Save" button. Saves the game to the save file, replacing
+   * any earlier save. The file is written on a background thread.
+   */
+  @Override
+  public void onSaveGame() {
+    GameSnapshot.saveInBackground(game, game.getConfigPath(), SAVE_FILE)
+        .exceptionally(e -> {
+          logger.log(Level.WARNING, "Error saving game", e);
+          return null;
+        });
   }
 
   /**
-   * Shows a dialog when the game ends.
+   * Called when the user clicks the "Load" button. Replaces the game with the one in the save
+   * file and shows its board. The file is read on a background thread, and the game is replaced
+   * on the JavaFX application thread.
+   */
+  @Override
+  public void onLoadGame() {
+    GameSnapshot.readInBackground(SAVE_FILE)
+        .thenAcceptAsync(snapshot -> {
+          String configFile = GameSnapshot.restore(snapshot, game);
+          if (configFile != null) {
+            game.changeBoard(configFile);
+          }
+          view.showBoard(game.getConfigPath());
+          startJournal();
+        }, Platform::runLater)
+        .exceptionally(e -> {
+          logger.log(Level.WARNING, "Error loading game", e);
+          return null;
+        });
+  }
+
+  /**
+   * Shows the game over overlay when the game ends, and returns at once.
    * Gives two choices: "Play Again" or "Main Menu".
    *
    * @param winnerName the name of the winning player
    */
   private void showEndGameDialog(String winnerName) {
-    Alert alert = new Alert(AlertType.NONE);
-    alert.setTitle("Game Over");
-    alert.setHeaderText(winnerName + " wins!");
-
-    ButtonType playAgain = new ButtonType("Play Again");
-    ButtonType mainMenu  = new ButtonType("Main Menu");
-    alert.getButtonTypes().setAll(playAgain, mainMenu);
-
-    DialogPane pane = alert.getDialogPane();
-    pane.getStylesheets().add(
-        Objects.requireNonNull(getClass().getResource("/css/style.css")).toExternalForm()
-    );
-    pane.getStyleClass().add("root");
-
-    Button buttonPlay = (Button) pane.lookupButton(playAgain);
-    buttonPlay.getStyleClass().add("button-main");
-    Button buttonMenu = (Button) pane.lookupButton(mainMenu);
-    buttonMenu.getStyleClass().add("button-main");
-
-    Optional<ButtonType> result = alert.showAndWait();
-    if (result.isPresent() && result.get() == playAgain) {
-      restartGame();
-    } else {
-      backToMainMenu();
-    }
+    view.showGameOver(winnerName + " wins!").thenAccept(choice -> {
+      if (choice == GameOverOverlay.Choice.PLAY_AGAIN) {
+        restartGame();
+      } else {
+        backToMainMenu();
+      }
+    });
   }
 
   /**
    * When the user chooses the "Play again" button. Restarts the game with the same players and pieces.
+   * The game and view are reset in place, so nothing is loaded again.
    */
   private void restartGame() {
-    new BoardGameViewController(primaryStage, playersData, gameType, fullscreenHandler);
+    game.reset();
+    view.reset();
+    journal.clear();
+    journalStarted = false;
   }
 
   /**
    * When the user chooses the "Main menu" button. Returns the user to the main menu (start screen).
    */
   private void backToMainMenu() {
+    closeJournal();
     try {
       MainView.getInstance().backToMainMenu();
     } catch (Exception e) {
@@ -179,4 +273,33 @@ public class BoardGameViewController implements Observer {
       Platform.exit();
     }
   }
+
+  /**
+   * Starts the turn journal from a snapshot of the game as it is now.
+   */
+  private void startJournal() {
+    journal.checkpoint(game, game.getConfigPath());
+    journalStarted = true;
+  }
+
+  /**
+   * Records a game event in the turn journal. The journal is removed when the game is won, since
+   * there is then nothing to recover.
+   */
+  private void journalEvent(GameEvent event) {
+    if (event.getType() == GameEvent.Type.WON) {
+      journal.clear();
+      journalStarted = false;
+    } else if (journalStarted) {
+      journal.append(game, event);
+    }
+  }
+
+  /**
+   * Removes the turn journal and stops its writer, when the game is left on purpose.
+   */
+  private void closeJournal() {
+    journal.clear();
+    journal.close();
+  }
 }
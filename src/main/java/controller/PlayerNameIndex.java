@@ -0,0 +1,159 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An index of saved players by name, for suggesting players as a name is typed.
+ *
+ * <p>Players are kept in arrays sorted by name, ignoring case, so all names that start with a
+ * prefix are next to each other and are found with a binary search. Finding the first few
+ * suggestions therefore takes the same short time for a roster of a million names as for ten,
+ * and the index holds nothing but the arrays of players. New players go into a small second
+ * array, which is merged into the main one when it has grown to an eighth of its size, so adding
+ * players one at a time stays cheap.</p>
+ *
+ * <p>The index expects each name once, as given by {@link PlayerRoster}. It is not thread safe,
+ * and is meant to be shared by the rows of the player setup on the JavaFX application
+ * thread.</p>
+ */
+public class PlayerNameIndex {
+
+  /** The smallest number of new players held in the second array before it is merged. */
+  private static final int MIN_MERGE_SIZE = 1024;
+
+  private static final Comparator<PlayerRecord> ORDER = Comparator
+      .comparing(PlayerRecord::name, String.CASE_INSENSITIVE_ORDER)
+      .thenComparing(PlayerRecord::name);
+
+  private static final PlayerRecord[] EMPTY = new PlayerRecord[0];
+
+  private PlayerRecord[] sorted = EMPTY;
+  private PlayerRecord[] recent = EMPTY;
+
+  /**
+   * Adds a player to the index.
+   *
+   * @param player the player to add
+   */
+  public void add(PlayerRecord player) {
+    addAll(List.of(player));
+  }
+
+  /**
+   * Adds players to the index.
+   *
+   * @param players the players to add, each with a name not already in the index
+   */
+  public void addAll(Collection<PlayerRecord> players) {
+    if (players.isEmpty()) {
+      return;
+    }
+    PlayerRecord[] batch = players.toArray(EMPTY);
+    Arrays.sort(batch, ORDER);
+    recent = merge(recent, batch);
+    if (recent.length >= Math.max(MIN_MERGE_SIZE, sorted.length / 8)) {
+      sorted = merge(sorted, recent);
+      recent = EMPTY;
+    }
+  }
+
+  /**
+   * Returns the players whose names start with the given text, ignoring case, in the order of
+   * their names.
+   *
+   * @param prefix the start of the name
+   * @param limit  the highest number of players to return
+   * @return up to limit players
+   */
+  public List<PlayerRecord> suggest(String prefix, int limit) {
+    List<PlayerRecord> suggestions = new ArrayList<>(Math.min(limit, 16));
+    int i = lowerBound(sorted, prefix);
+    int j = lowerBound(recent, prefix);
+    while (suggestions.size() < limit) {
+      boolean inSorted = i < sorted.length && startsWith(sorted[i], prefix);
+      boolean inRecent = j < recent.length && startsWith(recent[j], prefix);
+      if (inSorted && (!inRecent || ORDER.compare(sorted[i], recent[j]) <= 0)) {
+        suggestions.add(sorted[i++]);
+      } else if (inRecent) {
+        suggestions.add(recent[j++]);
+      } else {
+        break;
+      }
+    }
+    return suggestions;
+  }
+
+  /**
+   * Returns the player with exactly the given name.
+   *
+   * @param name the name of the player
+   * @return the player, or null if the name is not in the index
+   */
+  public PlayerRecord get(String name) {
+    PlayerRecord player = find(sorted, name);
+    return player != null ? player : find(recent, name);
+  }
+
+  /**
+   * Returns the number of players in the index.
+   *
+   * @return the number of players
+   */
+  public int size() {
+    return sorted.length + recent.length;
+  }
+
+  private static PlayerRecord find(PlayerRecord[] players, String name) {
+    for (int i = lowerBound(players, name); i < players.length; i++) {
+      if (String.CASE_INSENSITIVE_ORDER.compare(players[i].name(), name) != 0) {
+        break;
+      }
+      if (players[i].name().equals(name)) {
+        return players[i];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the index of the first player whose name is not before the given text, ignoring case.
+   */
+  private static int lowerBound(PlayerRecord[] players, String text) {
+    int low = 0;
+    int high = players.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (String.CASE_INSENSITIVE_ORDER.compare(players[mid].name(), text) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static boolean startsWith(PlayerRecord player, String prefix) {
+    return player.name().regionMatches(true, 0, prefix, 0, prefix.length());
+  }
+
+  private static PlayerRecord[] merge(PlayerRecord[] a, PlayerRecord[] b) {
+    if (a.length == 0) {
+      return b;
+    }
+    PlayerRecord[] merged = new PlayerRecord[a.length + b.length];
+    int i = 0;
+    int j = 0;
+    for (int k = 0; k < merged.length; k++) {
+      if (j >= b.length || (i < a.length && ORDER.compare(a[i], b[j]) <= 0)) {
+        merged[k] = a[i++];
+      } else {
+        merged[k] = b[j++];
+      }
+    }
+    return merged;
+  }
+}
@@ -0,0 +1,361 @@
+package controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import model.util.FileIo;
+
+/**
+ * The saved players, kept in a CSV file with one "name,piece" line per player.
+ *
+ * <p>The file is read once into an index by name, so looking up a player does not read the file
+ * again. If a name is in the file more than once, the first line wins, which is the player the
+ * old player setup picked. New players are held back and appended together by {@link #flush()},
+ * with one write for the whole batch. When more than half of the lines in the file are
+ * duplicates, the file is compacted: the unique players are written to a temporary file next to
+ * it, which is then moved over the old file, so a crash leaves either the old or the new file and
+ * never half of one.</p>
+ *
+ * <p>The file is the players.csv the player setup has always used, with an optional header
+ * line. Other CSV files in that format can be merged in with {@link #importCsv(Path)} and written out
+ * with {@link #exportCsv(Path)}. The roster can be used from any thread, and can be loaded on a
+ * background thread while it is in use.</p>
+ */
+public class PlayerRoster implements AutoCloseable {
+
+  /** The number of new players held back before they are appended to the file. */
+  public static final int BATCH_SIZE = 64;
+
+  /** The number of lines a file must have before it is worth compacting. */
+  public static final int MIN_COMPACT_LINES = 1024;
+
+  private static final Logger logger = Logger.getLogger(PlayerRoster.class.getName());
+
+  private final Path file;
+  private final Map<String, PlayerRecord> byName = new LinkedHashMap<>();
+  private final List<PlayerRecord> pending = new ArrayList<>();
+  private int fileLines;
+
+  /**
+   * Constructor for PlayerRoster. The file is not read until {@link #load()} is called.
+   *
+   * @param filename the name of the CSV file
+   */
+  public PlayerRoster(String filename) {
+    this(Path.of(filename));
+  }
+
+  /**
+   * Constructor for PlayerRoster. The file is not read until {@link #load()} is called.
+   *
+   * @param file the CSV file
+   */
+  public PlayerRoster(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Reads the players in the file into the roster, and compacts the file if it is mostly
+   * duplicates. A missing file is read as an empty roster.
+   *
+   * @return the number of players in the roster
+   */
+  public int load() {
+    return load(BATCH_SIZE, batch -> { });
+  }
+
+  /**
+   * Reads the players in the file into the roster, handing on the new players in batches as they
+   * are read, and compacts the file if it is mostly duplicates. A missing file is read as an
+   * empty roster.
+   *
+   * <p>The file is read without holding the roster's lock, which is only taken to index each
+   * batch, so the roster can be used from other threads while a large file is being loaded.</p>
+   *
+   * @param batchSize the number of lines read before a batch is handed on
+   * @param onBatch   receives the players that were not already in the roster, in file order,
+   *                  on the loading thread
+   * @return the number of players in the roster
+   */
+  public int load(int batchSize, Consumer<List<PlayerRecord>> onBatch) {
+    long start = System.nanoTime();
+    List<PlayerRecord> chunk = new ArrayList<>(batchSize);
+    int lines = 0;
+    try {
+      lines = readCsv(file, player -> {
+        chunk.add(player);
+        if (chunk.size() >= batchSize) {
+          indexBatch(chunk, onBatch);
+        }
+        return true;
+      });
+    } catch (NoSuchFileException e) {
+      // No players have been saved yet
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Error reading players from " + file, e);
+    }
+    indexBatch(chunk, onBatch);
+
+    synchronized (this) {
+      fileLines += lines;
+      int read = lines;
+      logger.fine(() -> String.format("Read %d players from %d lines in %.2f ms",
+          byName.size(), read, (System.nanoTime() - start) / 1e6));
+      compactIfNeeded();
+      return byName.size();
+    }
+  }
+
+  private void indexBatch(List<PlayerRecord> chunk, Consumer<List<PlayerRecord>> onBatch) {
+    List<PlayerRecord> added = new ArrayList<>(chunk.size());
+    synchronized (this) {
+      for (PlayerRecord player : chunk) {
+        if (index(player)) {
+          added.add(player);
+        }
+      }
+    }
+    chunk.clear();
+    if (!added.isEmpty()) {
+      onBatch.accept(added);
+    }
+  }
+
+  private boolean index(PlayerRecord player) {
+    return byName.putIfAbsent(player.name(), player) == null;
+  }
+
+  /**
+   * Returns the saved player with the given name.
+   *
+   * @param name the name of the player
+   * @return the player, or null if there is no player with that name
+   */
+  public synchronized PlayerRecord get(String name) {
+    return byName.get(name);
+  }
+
+  /**
+   * Checks if there is a saved player with the given name.
+   *
+   * @param name the name of the player
+   * @return true if the name is in the roster
+   */
+  public synchronized boolean contains(String name) {
+    return byName.containsKey(name);
+  }
+
+  /**
+   * Returns all saved players, each name once, in the order they were first saved.
+   *
+   * @return a copy of the players in the roster
+   */
+  public synchronized List<PlayerRecord> getRecords() {
+    return List.copyOf(byName.values());
+  }
+
+  /**
+   * Returns the number of players in the roster.
+   *
+   * @return the number of unique names
+   */
+  public synchronized int size() {
+    return byName.size();
+  }
+
+  /**
+   * Adds a player to the roster if the name is not already saved. The player is written to the
+   * file by the next {@link #flush()}, or at once when {@link #BATCH_SIZE} players are waiting.
+   *
+   * @param player the player to add
+   * @return true if the player was added, false if the name was already saved
+   */
+  public synchronized boolean add(PlayerRecord player) {
+    if (!index(player)) {
+      return false;
+    }
+    pending.add(player);
+    if (pending.size() >= BATCH_SIZE) {
+      flush();
+    }
+    return true;
+  }
+
+  /**
+   * Appends the players added since the last flush to the file, and compacts the file if it is
+   * mostly duplicates. If the file cannot be written, the players are kept and written by the
+   * next flush.
+   */
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      StringBuilder text = new StringBuilder();
+      if (!endsWithNewline(channel)) {
+        // The last line was cut short, so start the batch on a line of its own
+        text.append(System.lineSeparator());
+      }
+      appendLines(text, pending);
+      channel.position(channel.size());
+      writeFully(channel, text);
+      channel.force(false);
+      fileLines += pending.size();
+      pending.clear();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Error adding players to " + file, e);
+      return;
+    }
+    compactIfNeeded();
+  }
+
+  /**
+   * Checks if more than half of the lines in the file are duplicates, and the file is large
+   * enough for that to matter.
+   *
+   * @return true if the file should be compacted
+   */
+  public synchronized boolean needsCompaction() {
+    return fileLines >= MIN_COMPACT_LINES && fileLines > 2 * byName.size();
+  }
+
+  private void compactIfNeeded() {
+    if (!needsCompaction()) {
+      return;
+    }
+    try {
+      compact();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Error compacting " + file, e);
+    }
+  }
+
+  /**
+   * Rewrites the file with each saved player once, including players not yet flushed. The new
+   * file replaces the old one in a single move, so the old file is kept if writing fails.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  public synchronized void compact() throws IOException {
+    int before = fileLines;
+    writeCsv(file, byName.values());
+    pending.clear();
+    fileLines = byName.size();
+    logger.fine(() -> "Compacted " + file + " from " + before + " to " + fileLines + " lines");
+  }
+
+  /**
+   * Adds the players in another CSV file to the roster. Names that are already saved are skipped.
+   *
+   * @param source the CSV file to read
+   * @return the number of players added
+   * @throws IOException if the file is missing or cannot be read
+   */
+  public synchronized int importCsv(Path source) throws IOException {
+    int before = byName.size();
+    readCsv(source, this::add);
+    flush();
+    return byName.size() - before;
+  }
+
+  /**
+   * Writes each saved player once to a CSV file, in the format of the roster file.
+   *
+   * @param target the CSV file to write
+   * @throws IOException if the file cannot be written
+   */
+  public synchronized void exportCsv(Path target) throws IOException {
+    writeCsv(target, byName.values());
+  }
+
+  /**
+   * Writes the players not yet flushed to the file.
+   */
+  @Override
+  public void close() {
+    flush();
+  }
+
+  /**
+   * Reads the "name,piece" lines of a CSV file. Empty lines, a header line and lines without a
+   * comma are skipped.
+   *
+   * @return the number of players read
+   */
+  private static int readCsv(Path source, PlayerSink sink) throws IOException {
+    int count = 0;
+    try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+          continue;
+        }
+        String name = line.substring(0, comma).trim();
+        if (name.isEmpty() || name.equalsIgnoreCase("name")) {
+          continue;
+        }
+        sink.accept(new PlayerRecord(name, line.substring(comma + 1).trim()));
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Writes players to a temporary file next to the target, forces it to disk and moves it over
+   * the target.
+   */
+  private static void writeCsv(Path target, Collection<PlayerRecord> players) throws IOException {
+    StringBuilder text = new StringBuilder();
+    appendLines(text, players);
+    FileIo.writeAtomically(target, StandardCharsets.UTF_8.encode(text.toString()));
+  }
+
+  private static void appendLines(StringBuilder text, Collection<PlayerRecord> players) {
+    for (PlayerRecord player : players) {
+      text.append(player.name()).append(',').append(player.piece())
+          .append(System.lineSeparator());
+    }
+  }
+
+  private static void writeFully(FileChannel channel, CharSequence text) throws IOException {
+    ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static boolean endsWithNewline(FileChannel channel) throws IOException {
+    long size = channel.size();
+    if (size == 0) {
+      return true;
+    }
+    ByteBuffer last = ByteBuffer.allocate(1);
+    channel.read(last, size - 1);
+    return last.get(0) == '\n';
+  }
+
+  /**
+   * Receives the players read from a CSV file.
+   */
+  @FunctionalInterface
+  private interface PlayerSink {
+    boolean accept(PlayerRecord player);
+  }
+}
@@ -70,7 +70,8 @@ public class PlayerViewController implements PlayerView.Observer {
    */
   public void showPlayerView() {
     int numPlayers = amountController.getNumberOfPlayers();
-    PlayerView playerview = new PlayerView(numPlayers, gameType, fullscreenHandler);
+    PlayerView playerview = new PlayerView(numPlayers, gameType, fullscreenHandler,
+        SavedPlayers.getInstance());
     playerview.setObserver(this);
 
     boolean wasFullScreen = primaryStage.isFullScreen();
@@ -1,31 +1,33 @@
 package controller;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import javafx.application.Platform;
 import javafx.scene.Scene;
-import javafx.scene.control.Alert;
-import javafx.scene.control.Button;
-import javafx.scene.control.ButtonType;
-import javafx.scene.control.DialogPane;
 import javafx.stage.Stage;
 import model.entity.BoardGame;
+import model.entity.GameEvent;
 import model.entity.Player;
 import model.entity.Questions;
+import model.exception.InvalidSnapshotException;
 import model.factory.BoardGameFactory;
+import model.util.FileIo;
 import model.util.FullscreenHandler;
+import model.util.GameSnapshot;
+import model.util.QuestionLoader;
+import model.util.TurnJournal;
+import view.GameOverOverlay;
 import view.QuizGameView;
 import view.QuizGameView.Observer;
 import view.PlayerView.PlayerData;
@@ -42,16 +44,22 @@ public class QuizGameViewController implements Observer {
 
   private static final Logger logger =
       Logger.getLogger(QuizGameViewController.class.getName());
+  private static final String DEFAULT_QUESTIONS = "config/quiz/questions.json";
+  private static final Path SAVE_FILE = Path.of("quiz.sav");
+  private static final Path JOURNAL_FILE = Path.of("quiz.journal");
 
   private final Stage stage;
   private final Scene previousScene;
   private final BoardGame game;
   private final QuizGameView view;
-  private final FullscreenHandler fullscreenHandler;
   private final Map<Integer, Questions> questionMap = new HashMap<>();
 
   private boolean questionActive = false;
   private Questions currentQuestion;
+  private String questionFile = DEFAULT_QUESTIONS;
+
+  private final TurnJournal journal = new TurnJournal(JOURNAL_FILE);
+  private boolean journalStarted;
 
   /**
    * Constructor for the QuizGameViewController.
@@ -61,10 +69,29 @@ public class QuizGameViewController implements Observer {
    * @param fullscreenHandler handler for fullscreen mode
    */
   public QuizGameViewController(Stage stage, List<PlayerData> pdList, FullscreenHandler fullscreenHandler) {
+    this(stage, createGame(pdList), fullscreenHandler);
+  }
+
+  private QuizGameViewController(Stage stage, BoardGame game, FullscreenHandler fullscreenHandler) {
     this.stage = stage;
     this.previousScene = stage.getScene();
-    this.fullscreenHandler = fullscreenHandler;
-    this.game = BoardGameFactory.createQuizGame(pdList.size());
+    this.game = game;
+    game.addListener(this::journalEvent);
+
+    loadQuestions();
+
+    this.view = new QuizGameView(game, fullscreenHandler);
+    view.setObserver(this);
+    view.setQuestionTiles(questionMap.keySet());
+    view.updateView();
+
+    stage.setScene(new Scene(view, 800, 600));
+    stage.setTitle("Quiz Game");
+    stage.show();
+  }
+
+  private static BoardGame createGame(List<PlayerData> pdList) {
+    BoardGame game = BoardGameFactory.createQuizGame(pdList.size());
 
     var board = game.getBoard();
     for (PlayerData pd : pdList) {
@@ -74,35 +101,76 @@ public class QuizGameViewController implements Observer {
     }
 
     game.setCurrentPlayer(game.getPlayers().getFirst());
+    return game;
+  }
 
-    loadQuestions();
+  /**
+   * Resumes a quiz game that was cut off, e.g. by a power cut, from its turn journal. The journal
+   * is read on a background thread, and the game is shown on the JavaFX application thread if one
+   * was recovered and the window still shows the given scene. If the user has moved on by then,
+   * the journal is left for the next start. A question that was open when the game was cut off
+   * is not asked again.
+   *
+   * @param stage             the main application window
+   * @param startScene        the scene the game may replace
+   * @param fullscreenHandler handler for fullscreen mode
+   * @return a future that completes with true if a game was resumed
+   */
+  public static CompletableFuture<Boolean> resumeInterruptedGame(Stage stage, Scene startScene,
+      FullscreenHandler fullscreenHandler) {
+    return CompletableFuture.supplyAsync(QuizGameViewController::recoverGame, FileIo.BACKGROUND)
+        .thenApplyAsync(recovered -> {
+          if (recovered == null || stage.getScene() != startScene) {
+            return false;
+          }
+          QuizGameViewController controller =
+              new QuizGameViewController(stage, recovered.game(), fullscreenHandler);
+          controller.useQuestions(recovered.questionFile());
+          controller.view.showLoadedGame();
+          controller.startJournal();
+          return true;
+        }, Platform::runLater);
+  }
 
-    this.view = new QuizGameView(game, fullscreenHandler);
-    view.setObserver(this);
-    view.setQuestionTiles(questionMap.keySet());
-    view.updateView();
+  /**
+   * Removes the turn journal of a quiz game that was cut off, on a background thread, e.g. when
+   * another game was resumed instead.
+   */
+  public static void discardInterruptedGame() {
+    CompletableFuture.runAsync(() -> {
+      try {
+        Files.deleteIfExists(JOURNAL_FILE);
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Error removing " + JOURNAL_FILE, e);
+      }
+    }, FileIo.BACKGROUND);
+  }
 
-    stage.setScene(new Scene(view, 800, 600));
-    stage.setTitle("Quiz Game");
-    stage.show();
+  /**
+   * Recovers the game in the turn journal, or returns null if there is none.
+   */
+  private static Recovered recoverGame() {
+    if (!TurnJournal.canRecover(JOURNAL_FILE)) {
+      return null;
+    }
+    try {
+      BoardGame game = BoardGameFactory.createQuizGame(2);
+      String filename = TurnJournal.recover(JOURNAL_FILE, game);
+      return new Recovered(game, filename != null ? filename : DEFAULT_QUESTIONS);
+    } catch (IOException | InvalidSnapshotException e) {
+      logger.log(Level.WARNING, "Error recovering interrupted game", e);
+      return null;
+    }
   }
 
   /**
    * Loads the list of questions with the questions from a JSON file.
    */
   private void loadQuestions() {
-    try (var is = getClass().getResourceAsStream("/config/quiz/questions.json")) {
-      if (is == null) {
-        throw new RuntimeException("Could not find questions.json");
-      }
-      ObjectMapper mapper = new ObjectMapper();
-      List<Questions> list = mapper.readValue(
-          is,
-          new TypeReference<>() {
-          }
-      );
+    try {
+      Map<Integer, Questions> loaded = QuestionLoader.loadQuestions(DEFAULT_QUESTIONS);
       questionMap.clear();
-      list.forEach(q -> questionMap.put(q.getTileId(), q));
+      questionMap.putAll(loaded);
     } catch (IOException e) {
       throw new RuntimeException("Could not load question", e);
     }
@@ -114,6 +182,7 @@ public class QuizGameViewController implements Observer {
    */
   @Override
   public void onBack() {
+    closeJournal();
     if (previousScene != null) {
       stage.setScene(previousScene);
     } else {
@@ -130,26 +199,47 @@ public class QuizGameViewController implements Observer {
     if (questionActive) {
       return;
     }
-    int sum = game.getDice().rollDice();
+    if (!journalStarted) {
+      startJournal();
+    }
+    int sum = game.rollDice();
 
     moveAndMaybeAsk(sum);
   }
 
+  /**
+   * Moves the current player the given number of steps, in one move that stops early on the
+   * first question tile on the way. The question is shown once the piece has arrived there, and
+   * the steps left are walked after it is answered or skipped.
+   */
   private void moveAndMaybeAsk(int steps) {
     Player cur = game.getCurrentplayer();
-    for (int i = 0; i < steps; i++) {
-      cur.move(1);
-      view.updateView();
-      int tileId = cur.getCurrentTile().getTileId();
+    int from = cur.getCurrentTile().getTileId();
+    int last = Math.min(from + steps, game.getBoard().getTileCount());
+    int stop = last;
+    for (int tileId = from + 1; tileId < last; tileId++) {
       if (questionMap.containsKey(tileId)) {
-        remainingSteps = steps - i - 1;
-        currentQuestion = questionMap.get(tileId);
-        questionActive = true;
-        view.showQuestion(currentQuestion.getQuestion(), currentQuestion.getOptions());
-        return;
+        stop = tileId;
+        break;
       }
     }
-    nextTurnOrEnd();
+    game.movePlayer(cur, stop - from);
+
+    Questions question = questionMap.get(cur.getCurrentTile().getTileId());
+    if (question == null) {
+      nextTurnOrEnd();
+      return;
+    }
+    remainingSteps = stop < last ? steps - (stop - from) : 0;
+    currentQuestion = question;
+    questionActive = true;
+    game.fireEvent(GameEvent.of(GameEvent.Type.QUESTION, cur));
+    view.whenPieceStops(cur).thenRun(() -> {
+      // The game may have been restarted or loaded while the piece was moving
+      if (questionActive && currentQuestion == question) {
+        view.showQuestion(question.getQuestion(), question.getOptions());
+      }
+    });
   }
 
   /**
@@ -162,9 +252,12 @@ public class QuizGameViewController implements Observer {
     view.hideQuestion();
     questionActive = false;
 
+    Player cur = game.getCurrentplayer();
     if (currentQuestion.getAnswer().equals(answer)) {
-      game.getCurrentplayer().incrementScore();
+      cur.incrementScore();
     }
+    int tileId = cur.getCurrentTile().getTileId();
+    game.fireEvent(new GameEvent(GameEvent.Type.ANSWERED, cur, tileId, tileId, cur.getScore()));
     currentQuestion = null;
 
     if (remainingSteps > 0) {
@@ -203,59 +296,47 @@ public class QuizGameViewController implements Observer {
       showEndDialog();
       return;
     }
-    List<Player> all = game.getPlayers();
-    int index = all.indexOf(cur);
-    Player nextPlayer = all.get((index + 1) % all.size());
-    game.setCurrentPlayer(nextPlayer);
-    view.updateView();
+    game.nextTurn();
   }
 
   /**
-   * A dialog that shows up when the game is over.
+   * Shows the game over overlay when the game is over, and returns at once.
    */
   private void showEndDialog() {
     Optional<Player> winner = game.getPlayers().stream()
         .max(Comparator.comparingInt(Player::getScore));
+    winner.ifPresent(p -> game.fireEvent(GameEvent.of(GameEvent.Type.WON, p)));
 
     String message = winner
         .map(p -> p.getName() + " wins with " + p.getScore() + " points!")
         .orElse("No winner");
 
-    Alert alert = new Alert(Alert.AlertType.NONE);
-    alert.setTitle("Game Over");
-    alert.setHeaderText(message);
-
-    ButtonType mainMenu = new ButtonType("Main Menu");
-    ButtonType playAgain = new ButtonType("Play Again");
-
-    alert.getButtonTypes().setAll(playAgain, mainMenu);
-
-    DialogPane pane = alert.getDialogPane();
-    pane.getStylesheets().add(
-        Objects.requireNonNull(getClass().getResource("/css/style.css")).toExternalForm()
-    );
-    pane.getStyleClass().add("root");
-
-    Button buttonMenu = (Button) pane.lookupButton(mainMenu);
-    buttonMenu.getStyleClass().add("button-main");
-
-    Button buttonPlay = (Button) pane.lookupButton(playAgain);
-    buttonPlay.getStyleClass().add("button-main");
-
-
-    var result = alert.showAndWait();
-    if (result.isPresent() && result.get() == playAgain) {
-      List<PlayerData> pdList = game.getPlayers().stream()
-          .map(p -> new PlayerData(p.getName(), p.getPiece()))
-          .collect(Collectors.toList());
-      new QuizGameViewController(stage, pdList, fullscreenHandler);
-    } else {
-      try {
-        MainView.getInstance().backToMainMenu();
-      } catch (Exception e) {
-        logger.log(Level.SEVERE, "Error starting board game app", e);
+    view.showGameOver(message).thenAccept(choice -> {
+      if (choice == GameOverOverlay.Choice.PLAY_AGAIN) {
+        restartGame();
+      } else {
+        closeJournal();
+        try {
+          MainView.getInstance().backToMainMenu();
+        } catch (Exception e) {
+          logger.log(Level.SEVERE, "Error starting board game app", e);
+        }
       }
-    }
+    });
+  }
+
+  /**
+   * Restarts the game with the same players and pieces. The game and view are reset in place,
+   * so nothing is loaded again.
+   */
+  private void restartGame() {
+    questionActive = false;
+    currentQuestion = null;
+    remainingSteps = 0;
+    game.reset();
+    view.reset();
+    journal.clear();
+    journalStarted = false;
   }
 
   /**
@@ -266,30 +347,106 @@ public class QuizGameViewController implements Observer {
   @Override
   public void onCategorySelected(String category) {
     String filename = category.equals("Geography")
-        ? "/config/quiz/geography_questions.json"
-        : "/config/quiz/questions.json";
+        ? "config/quiz/geography_questions.json"
+        : DEFAULT_QUESTIONS;
+
+    useQuestions(filename);
 
+    view.showGame();
+    view.updateView();
+  }
+
+  /**
+   * Loads the questions in the given file and marks their tiles on the board.
+   */
+  private void useQuestions(String filename) {
+    questionFile = filename;
     questionMap.clear();
     Set<Integer> tileIds = new HashSet<>();
 
-    ObjectMapper mapper = new ObjectMapper();
-    try (InputStream is = getClass().getResourceAsStream(filename)) {
-      if (is == null) {
-        throw new RuntimeException("Could not find file: " + filename);
-      }
-      List<Questions> list = mapper.readValue(is, new TypeReference<>() {});
-      for (Questions q : list) {
-        questionMap.put(q.getTileId(), q);
-        tileIds.add(q.getTileId());
-      }
+    try {
+      questionMap.putAll(QuestionLoader.loadQuestions(filename));
+      tileIds.addAll(questionMap.keySet());
     } catch (IOException e) {
       logger.log(Level.SEVERE, "Error loading questions", e);
     }
 
     view.setQuestionTiles(tileIds);
+  }
 
-    view.showGame();
-    view.updateView();
+  /**
+   * Called when the user clicks the "Save" button. Saves the game and its question category to
+   * the save file, replacing any earlier save. A game is not saved while a question is open. The
+   * file is written on a background thread.
+   */
+  @Override
+  public void onSaveGame() {
+    if (questionActive) {
+      logger.info("Answer or skip the question before saving");
+      return;
+    }
+    GameSnapshot.saveInBackground(game, questionFile, SAVE_FILE)
+        .exceptionally(e -> {
+          logger.log(Level.WARNING, "Error saving game", e);
+          return null;
+        });
+  }
+
+  /**
+   * Called when the user clicks the "Load" button. Replaces the game with the one in the save
+   * file, with the questions it was played with. The file is read on a background thread, and
+   * the game is replaced on the JavaFX application thread.
+   */
+  @Override
+  public void onLoadGame() {
+    GameSnapshot.readInBackground(SAVE_FILE)
+        .thenAcceptAsync(snapshot -> {
+          String filename = GameSnapshot.restore(snapshot, game);
+          questionActive = false;
+          currentQuestion = null;
+          remainingSteps = 0;
+          useQuestions(filename != null ? filename : DEFAULT_QUESTIONS);
+          view.showLoadedGame();
+          startJournal();
+        }, Platform::runLater)
+        .exceptionally(e -> {
+          logger.log(Level.WARNING, "Error loading game", e);
+          return null;
+        });
+  }
+
+  /**
+   * Starts the turn journal from a snapshot of the game as it is now.
+   */
+  private void startJournal() {
+    journal.checkpoint(game, questionFile);
+    journalStarted = true;
   }
-}
 
+  /**
+   * Records a game event in the turn journal. The journal is removed when the game is over, since
+   * there is then nothing to recover.
+   */
+  private void journalEvent(GameEvent event) {
+    if (event.getType() == GameEvent.Type.WON) {
+      journal.clear();
+      journalStarted = false;
+    } else if (journalStarted) {
+      journal.append(game, event);
+    }
+  }
+
+  /**
+   * Removes the turn journal and stops its writer, when the game is left on purpose.
+   */
+  private void closeJournal() {
+    journal.clear();
+    journal.close();
+  }
+
+  /**
+   * A game recovered from the turn journal, with the questions it was played with.
+   */
+  private record Recovered(BoardGame game, String questionFile) {
+  }
+}
@@ -0,0 +1,101 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javafx.application.Platform;
+import model.util.FileIo;
+
+/**
+ * The saved players of the application, shared by every player setup screen.
+ *
+ * <p>There is one {@link PlayerRoster} for the roster file, which is read once on a background
+ * thread the first time it is needed, and one {@link PlayerNameIndex} of the saved names for the
+ * suggestions. A player setup screen that is opened again uses the same index, without reading
+ * the file again, and all writes to the file go through the same roster, so a save from one
+ * screen cannot be lost to a compaction started by another.</p>
+ *
+ * <p>The index is only used on the JavaFX application thread.</p>
+ */
+public final class SavedPlayers {
+
+  /** The number of saved players added to the index at a time while the roster loads. */
+  private static final int LOAD_BATCH_SIZE = 500;
+
+  private static SavedPlayers instance;
+
+  private final PlayerRoster roster;
+  private final PlayerNameIndex index = new PlayerNameIndex();
+  private final CompletableFuture<Void> loaded;
+  private Runnable onChange = () -> { };
+
+  private SavedPlayers(PlayerRoster roster) {
+    this.roster = roster;
+    this.loaded = CompletableFuture.runAsync(
+        () -> roster.load(LOAD_BATCH_SIZE, batch -> Platform.runLater(() -> addToIndex(batch))),
+        FileIo.BACKGROUND);
+  }
+
+  /**
+   * Returns the saved players of the application, and starts loading the roster file the first
+   * time it is called.
+   *
+   * @return the saved players
+   */
+  public static synchronized SavedPlayers getInstance() {
+    if (instance == null) {
+      instance = new SavedPlayers(new PlayerRoster("players.csv"));
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the index of saved names, which grows while the roster loads. Only to be used on the
+   * JavaFX application thread.
+   *
+   * @return the index of saved players
+   */
+  public PlayerNameIndex getIndex() {
+    return index;
+  }
+
+  /**
+   * Sets what is run on the JavaFX application thread when players are added to the index, e.g.
+   * to refresh the suggestions of the screen that is showing. Replaces the one set before.
+   *
+   * @param onChange the action to run
+   */
+  public void setOnChange(Runnable onChange) {
+    this.onChange = onChange != null ? onChange : () -> { };
+  }
+
+  /**
+   * Saves new players once the roster has loaded, so names already in the file are not saved
+   * again. The roster is written on a background thread, and the players are added to the index
+   * when they have been saved.
+   *
+   * @param players the players to save
+   */
+  public void save(List<PlayerRecord> players) {
+    if (players.isEmpty()) {
+      return;
+    }
+    loaded.thenRunAsync(() -> {
+      List<PlayerRecord> added = new ArrayList<>();
+      for (PlayerRecord player : players) {
+        if (roster.add(player)) {
+          added.add(player);
+        }
+      }
+      roster.flush();
+      if (!added.isEmpty()) {
+        Platform.runLater(() -> addToIndex(added));
+      }
+    }, FileIo.BACKGROUND);
+  }
+
+  private void addToIndex(List<PlayerRecord> players) {
+    index.addAll(players);
+    onChange.run();
+  }
+}
@@ -4,7 +4,7 @@ package model.entity;
  * This class represents an action that sends a player back to a specified tile on the board.
  * It implements the TileAction interface.
  */
-public class BackToStartAction implements TileAction {
+public class BackToStartAction implements JumpAction {
   private final int destinationTileId;
   private final String message;
 
@@ -20,7 +20,17 @@ public class BackToStartAction implements TileAction {
   }
 
   /**
-   * Gets the ID of the destination tile.
+   * Gets the ID of the tile the player is sent back to.
+   *
+   * @return the destination tile ID
+   */
+  @Override
+  public int getDestinationTileId() {
+    return destinationTileId;
+  }
+
+  /**
+   * Sends the player back to the destination tile.
    *
    * @param player the player to which the action is performed
    */
@@ -1,22 +1,38 @@
 package model.entity;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import model.exception.BoardNotInitializedException;
 
 /**
  * Represents a game board that contains tiles. The board is initialized with a set of tiles, and
  * each tile can be accessed by its ID.
+ *
+ * <p>Tiles are stored in an array indexed by tile ID, so looking up a tile is a single array
+ * access. The board also keeps a jump table with the destination of every ladder, snake and
+ * back-to-start tile, which is updated whenever the action of one of its tiles changes.</p>
  */
 public class Board {
 
-  private final Map<Integer, Tile> tiles;
+  private static final int INITIAL_CAPACITY = 91;
+
+  private Tile[] tiles;
+  private int[] jumps;
+  private int tileCount;
+  private final Map<Integer, Tile> tileView = new TileMapView();
 
   /**
    * Initializes a new Board instance with an empty set of tiles.
    */
   public Board() {
-    tiles = new HashMap<>();
+    tiles = new Tile[INITIAL_CAPACITY];
+    jumps = new int[INITIAL_CAPACITY];
+    tileCount = 0;
   }
 
   /**
@@ -25,10 +41,19 @@ public class Board {
    * @param tile - tile that is added to the board.
    */
   public void addTile(Tile tile) {
-    if (tiles.containsKey(tile.getTileId())) {
-      throw new IllegalArgumentException("Tile with ID " + tile.getTileId() + " already exists.");
+    int tileId = tile.getTileId();
+    if (tileId < tiles.length && tiles[tileId] != null) {
+      throw new IllegalArgumentException("Tile with ID " + tileId + " already exists.");
+    }
+    if (tileId >= tiles.length) {
+      int capacity = Math.max(tileId + 1, tiles.length * 2);
+      tiles = Arrays.copyOf(tiles, capacity);
+      jumps = Arrays.copyOf(jumps, capacity);
     }
-    tiles.put(tile.getTileId(), tile);
+    tiles[tileId] = tile;
+    tileCount++;
+    tile.setBoard(this);
+    updateJump(tile);
   }
 
   /**
@@ -40,19 +65,124 @@ public class Board {
    *                                      invalid.
    */
   public Tile getTile(int tileId) {
-    if (!tiles.containsKey(tileId)) {
+    if (tileId < 0 || tileId >= tiles.length || tiles[tileId] == null) {
       throw new BoardNotInitializedException(
-          "Tile with ID " + tileId + " not found. Map size: " + tiles.size());
+          "Tile with ID " + tileId + " not found. Map size: " + tileCount);
     }
-    return tiles.get(tileId);
+    return tiles[tileId];
   }
 
   /**
    * Retrieves all tiles on the board.
    *
-   * @return a map of all tiles, where the key is the tile ID and the value is the Tile object.
+   * @return a read-only map of all tiles, where the key is the tile ID and the value is the
+   *         Tile object. The map reflects tiles added later.
    */
   public Map<Integer, Tile> getTiles() {
-    return tiles;
+    return tileView;
+  }
+
+  /**
+   * Returns the number of tiles on the board.
+   *
+   * @return the number of tiles
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  /**
+   * Returns where a player landing on the given tile ends up after its ladder, snake or
+   * back-to-start action. Tiles without such an action lead to themselves.
+   *
+   * @param tileId the ID of the tile landed on
+   * @return the ID of the destination tile
+   * @throws BoardNotInitializedException if the tile is not on the board
+   */
+  public int getJumpDestination(int tileId) {
+    if (tileId < 0 || tileId >= tiles.length || tiles[tileId] == null) {
+      throw new BoardNotInitializedException(
+          "Tile with ID " + tileId + " not found. Map size: " + tileCount);
+    }
+    return jumps[tileId];
+  }
+
+  /**
+   * Updates the jump table entry of a tile on this board. Called by the tile when its action
+   * changes.
+   *
+   * @param tile the tile that changed
+   */
+  void updateJump(Tile tile) {
+    int tileId = tile.getTileId();
+    if (tile.getTileAction() instanceof JumpAction jump) {
+      jumps[tileId] = jump.getDestinationTileId();
+    } else {
+      jumps[tileId] = tileId;
+    }
+  }
+
+  /**
+   * Read-only map view over the tile array, ordered by tile ID.
+   */
+  private class TileMapView extends AbstractMap<Integer, Tile> {
+
+    @Override
+    public int size() {
+      return tileCount;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public Tile get(Object key) {
+      if (key instanceof Integer tileId && tileId >= 0 && tileId < tiles.length) {
+        return tiles[tileId];
+      }
+      return null;
+    }
+
+    @Override
+    public Set<Entry<Integer, Tile>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return tileCount;
+        }
+
+        @Override
+        public Iterator<Entry<Integer, Tile>> iterator() {
+          return new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+              int id = from;
+              while (id < tiles.length && tiles[id] == null) {
+                id++;
+              }
+              return id;
+            }
+
+            @Override
+            public boolean hasNext() {
+              return next < tiles.length;
+            }
+
+            @Override
+            public Entry<Integer, Tile> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              Entry<Integer, Tile> entry = new SimpleImmutableEntry<>(next, tiles[next]);
+              next = advance(next + 1);
+              return entry;
+            }
+          };
+        }
+      };
+    }
   }
 }
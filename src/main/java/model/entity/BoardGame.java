@@ -3,7 +3,10 @@ package model.entity;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import model.util.BoardConfigLoader;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.random.RandomGenerator;
+import model.util.BoardConfigRegistry;
 import model.util.BoardConfigLoader.TileConfig;
 import model.exception.InvalidGameTypeException;
 import model.exception.BoardNotInitializedException;
@@ -20,6 +23,9 @@ public class BoardGame {
   private final List<Player> players;
   private Dice dice;
   private Player currentplayer;
+  private String gameType;
+  private String configPath;
+  private final List<GameEventListener> listeners = new CopyOnWriteArrayList<>();
 
   /**
    * Constructor for the BoardGame class.
@@ -57,25 +63,12 @@ public class BoardGame {
    */
   public void createBoard(String gameType, String configPath) {
     board = new Board();
+    String type = gameType.toLowerCase();
 
-    switch (gameType.toLowerCase()) {
+    switch (type) {
       case "snakesandladders":
-        for (int i = 1; i <= 90; i++) {
-          board.addTile(new Tile(i));
-        }
-        if (configPath != null) {
-          Map<Integer, TileConfig> config = BoardConfigLoader.loadConfig(configPath);
-          for (Map.Entry<Integer, TileConfig> entry : config.entrySet()) {
-            int from = entry.getKey();
-            TileConfig cfg = entry.getValue();
-            int to = cfg.to;
-            if (to == 1) {
-              board.getTile(from).setTileAction(new BackToStartAction(to, cfg.message));
-            } else {
-              board.getTile(from).setTileAction(new LadderAction(to, cfg.message));
-            }
-          }
-        }
+        createSnakesAndLaddersBoard(
+            configPath != null ? BoardConfigRegistry.get(configPath) : Map.of());
         break;
 
       case "quiz":
@@ -87,6 +80,68 @@ public class BoardGame {
       default:
         throw new InvalidGameTypeException("Invalid game type: " + gameType);
     }
+    this.gameType = type;
+    this.configPath = configPath;
+  }
+
+  /**
+   * Creates a Snakes & Ladders board with 90 tiles from an already loaded configuration.
+   *
+   * @param config the tile actions, by the ID of the tile they start on
+   */
+  public void createSnakesAndLaddersBoard(Map<Integer, TileConfig> config) {
+    board = new Board();
+    for (int i = 1; i <= 90; i++) {
+      board.addTile(new Tile(i));
+    }
+    for (Map.Entry<Integer, TileConfig> entry : config.entrySet()) {
+      int from = entry.getKey();
+      TileConfig cfg = entry.getValue();
+      int to = cfg.to;
+      if (to == 1) {
+        board.getTile(from).setTileAction(new BackToStartAction(to, cfg.message));
+      } else {
+        board.getTile(from).setTileAction(new LadderAction(to, cfg.message));
+      }
+    }
+  }
+
+  /**
+   * Builds the board again from another configuration, e.g. when a harder board is chosen or a
+   * game saved on another board is loaded. The players are replaced by players on the new board
+   * with the same names, pieces, tiles and scores, and the same player keeps the turn. Nothing
+   * is changed if the board already has the configuration.
+   *
+   * @param configPath the path to the configuration file
+   */
+  public void changeBoard(String configPath) {
+    if (Objects.equals(configPath, this.configPath)) {
+      return;
+    }
+    int current = players.indexOf(currentplayer);
+    createBoard(gameType, configPath);
+    List<Player> moved = new ArrayList<>(players.size());
+    for (Player player : players) {
+      Player copy = new Player(player.getName(), board, player.getPiece());
+      copy.setCurrentTile(board.getTile(player.getCurrentTile().getTileId()));
+      copy.setScore(player.getScore());
+      moved.add(copy);
+    }
+    setPlayers(moved);
+    if (current >= 0) {
+      setCurrentPlayer(moved.get(current));
+    }
+  }
+
+  /**
+   * Replaces the players of the game, e.g. with the players of a saved game. The current player
+   * is not changed.
+   *
+   * @param newPlayers the players, in turn order
+   */
+  public void setPlayers(List<Player> newPlayers) {
+    players.clear();
+    players.addAll(newPlayers);
   }
 
   /**
@@ -98,17 +153,137 @@ public class BoardGame {
     dice = new Dice(numDice, 6);
   }
 
+  /**
+   * Creates the dice with their own random generator.
+   *
+   * @param numDice number of dice
+   * @param random  the random generator the dice roll with
+   */
+  public void createDice(int numDice, RandomGenerator random) {
+    dice = new Dice(numDice, 6, random);
+  }
+
+  /**
+   * Adds a listener that is told about every event in the game.
+   *
+   * @param listener the listener to add
+   */
+  public void addListener(GameEventListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener.
+   *
+   * @param listener the listener to remove
+   */
+  public void removeListener(GameEventListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Sends an event to every listener.
+   *
+   * @param event the event to send
+   */
+  public void fireEvent(GameEvent event) {
+    for (GameEventListener listener : listeners) {
+      listener.onGameEvent(event);
+    }
+  }
+
+  /**
+   * Checks if anyone listens for events, so events are not built for nobody, e.g. in the
+   * simulator, which changes the current player every turn.
+   */
+  private boolean hasListeners() {
+    return !listeners.isEmpty();
+  }
+
+  private void fireTurnChanged() {
+    if (hasListeners()) {
+      fireEvent(GameEvent.of(GameEvent.Type.TURN_CHANGED, currentplayer));
+    }
+  }
+
+  /**
+   * Rolls the dice for the current player.
+   *
+   * @return the sum of the dice
+   */
+  public int rollDice() {
+    int sum = dice.rollDice();
+    if (hasListeners()) {
+      fireEvent(new GameEvent(GameEvent.Type.ROLLED, currentplayer, 0, 0, sum));
+    }
+    return sum;
+  }
+
+  /**
+   * Moves a player the given number of steps and performs the action of the tile they land on.
+   * Sends a MOVED event, followed by a LADDER or SNAKE event if the tile action moved the
+   * player on.
+   *
+   * @param player the player to move
+   * @param steps  the number of steps
+   */
+  public void movePlayer(Player player, int steps) {
+    int from = player.getCurrentTile().getTileId();
+    int landed = Math.max(1, Math.min(from + steps, board.getTileCount()));
+    player.move(steps);
+    int to = player.getCurrentTile().getTileId();
+
+    if (!hasListeners()) {
+      return;
+    }
+    fireEvent(new GameEvent(GameEvent.Type.MOVED, player, from, landed, steps));
+    if (to != landed) {
+      GameEvent.Type jump = to > landed ? GameEvent.Type.LADDER : GameEvent.Type.SNAKE;
+      fireEvent(new GameEvent(jump, player, landed, to, 0));
+    }
+  }
+
+  /**
+   * Gives the turn to the player after the current one, and sends a TURN_CHANGED event. In a
+   * game with one player, the turn goes back to the same player.
+   *
+   * @return the new current player
+   */
+  public Player nextTurn() {
+    int index = players.indexOf(currentplayer);
+    currentplayer = players.get((index + 1) % players.size());
+    fireTurnChanged();
+    return currentplayer;
+  }
+
+  /**
+   * Resets the game so it can be played again with the same board, players and dice.
+   * Every player is moved back to tile 1 with a score of 0, the dice are cleared, and the first
+   * player gets the first turn.
+   */
+  public void reset() {
+    for (Player player : players) {
+      player.setCurrentTile(player.getBoard().getTile(1));
+      player.setScore(0);
+    }
+    if (dice != null) {
+      dice.reset();
+    }
+    currentplayer = players.isEmpty() ? null : players.getFirst();
+    fireTurnChanged();
+  }
+
   /**
    * Returns the winner of the game.
    *
    * @return the winning player, or null if no winner yet
    */
   public Player getWinner() {
-    if (board == null || board.getTiles() == null || board.getTiles().isEmpty()) {
+    if (board == null || board.getTileCount() == 0) {
       throw new BoardNotInitializedException("Board must be created before checking for a winner.");
     }
     for (Player player : players) {
-      if (player.getCurrentTile().getTileId() == board.getTiles().size()) {
+      if (player.getCurrentTile().getTileId() == board.getTileCount()) {
         return player;
       }
     }
@@ -124,6 +299,25 @@ public class BoardGame {
     return board;
   }
 
+  /**
+   * Getter method for the game type the board was created for.
+   *
+   * @return the game type in lower case, e.g. "snakesandladders", or null if the board was not
+   *         created with {@link #createBoard(String, String)}
+   */
+  public String getGameType() {
+    return gameType;
+  }
+
+  /**
+   * Getter method for the configuration the board was created from.
+   *
+   * @return the path to the configuration file, or null if there is none
+   */
+  public String getConfigPath() {
+    return configPath;
+  }
+
   /**
    * Getter method for the current player.
    *
@@ -152,11 +346,15 @@ public class BoardGame {
   }
 
   /**
-   * Setter method for the current player.
+   * Setter method for the current player. Sends a TURN_CHANGED event if the player changes.
    *
    * @param player the player to set as current
    */
   public void setCurrentPlayer(Player player) {
+    if (player == currentplayer) {
+      return;
+    }
     this.currentplayer = player;
+    fireTurnChanged();
   }
 }
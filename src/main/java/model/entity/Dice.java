@@ -1,16 +1,24 @@
 package model.entity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.random.RandomGenerator;
 import model.exception.InvalidDiceRollException;
 
 /**
  * The Dice class represents a collection of dice. It allows rolling multiple dice and keeps track
  * of their values.
+ *
+ * <p>The values of the last roll and how many dice show each face are kept in primitive arrays,
+ * so they can be read without allocating through {@link #getDiceValues(int[])},
+ * {@link #getValue(int)} and {@link #getFaceCount(int)}.</p>
  */
 public class Dice extends Die {
 
   private final List<Die> dice;
+  private final int[] values;
+  private int[] faceCounts;
   private int sum;
 
   /**
@@ -29,6 +37,30 @@ public class Dice extends Die {
     for (int i = 0; i < numberOfDice; i++) {
       dice.add(new Die(sides));
     }
+    this.values = new int[numberOfDice];
+    this.faceCounts = new int[sides + 1];
+    this.sum = 0;
+  }
+
+  /**
+   * Constructs dice objects where every die rolls with the given random generator.
+   *
+   * @param numberOfDice the number of dice to create
+   * @param sides the number of sides on each die
+   * @param random the random generator shared by these dice
+   * @throws InvalidDiceRollException if the number of dice is less than or equal to 0
+   */
+  public Dice(int numberOfDice, int sides, RandomGenerator random) {
+    super(sides, random);
+    if (numberOfDice <= 0) {
+      throw new InvalidDiceRollException("Number of dice must be greater than 0");
+    }
+    dice = new ArrayList<>();
+    for (int i = 0; i < numberOfDice; i++) {
+      dice.add(new Die(sides, random));
+    }
+    this.values = new int[numberOfDice];
+    this.faceCounts = new int[sides + 1];
     this.sum = 0;
   }
 
@@ -39,12 +71,72 @@ public class Dice extends Die {
    */
   public int rollDice() {
     sum = 0;
-    for (Die die : dice) {
-      sum += die.rollDie();
+    Arrays.fill(faceCounts, 0);
+    for (int i = 0; i < values.length; i++) {
+      int value = dice.get(i).rollDie();
+      values[i] = value;
+      faceCounts[value]++;
+      sum += value;
     }
     return sum;
   }
 
+  /**
+   * Clears the values of the last roll, so the dice count as not rolled.
+   */
+  public void reset() {
+    Arrays.fill(values, 0);
+    Arrays.fill(faceCounts, 0);
+    sum = 0;
+  }
+
+  /**
+   * Sets the values of the last roll, e.g. to show the roll of a saved game again.
+   *
+   * @param newValues one value for each die, or all 0 for dice that have not been rolled
+   * @throws IllegalArgumentException if there is not one value for each die
+   * @throws InvalidDiceRollException if a value is not a face of the dice
+   */
+  public void setDiceValues(int[] newValues) {
+    if (newValues.length != values.length) {
+      throw new IllegalArgumentException(
+          "Expected " + values.length + " dice values, got " + newValues.length);
+    }
+    boolean rolled = newValues.length > 0 && newValues[0] != 0;
+    for (int value : newValues) {
+      if (rolled ? value < 1 || value > getSides() : value != 0) {
+        throw new InvalidDiceRollException("Invalid dice value: " + value);
+      }
+    }
+    reset();
+    if (!rolled) {
+      return;
+    }
+    for (int i = 0; i < newValues.length; i++) {
+      values[i] = newValues[i];
+      faceCounts[newValues[i]]++;
+      sum += newValues[i];
+    }
+  }
+
+  /**
+   * Checks if the dice have been rolled.
+   *
+   * @return true if the dice have values
+   */
+  public boolean hasBeenRolled() {
+    return values[0] != 0;
+  }
+
+  /**
+   * Getter for the number of dice.
+   *
+   * @return the number of dice
+   */
+  public int getNumberOfDice() {
+    return dice.size();
+  }
+
   /**
    * Getter for the sum of the dice
    */
@@ -54,16 +146,58 @@ public class Dice extends Die {
 
   /**
    * Getter for the values of the dice
+   *
+   * @throws InvalidDiceRollException if the dice have not been rolled
    */
   public List<Integer> getDiceValues() {
-    List<Integer> values = new ArrayList<>();
-    for (Die die : dice) {
-      if (die.getValue() == 0) {
-        throw new InvalidDiceRollException("Dice has not been rolled");
-      }
-      values.add(die.getValue());
+    if (!hasBeenRolled()) {
+      throw new InvalidDiceRollException("Die has not been rolled");
+    }
+    List<Integer> list = new ArrayList<>(values.length);
+    for (int value : values) {
+      list.add(value);
     }
-    return values;
+    return list;
+  }
+
+  /**
+   * Copies the values of the last roll into the given array, without allocating.
+   *
+   * @param out the array to fill, at least as long as the number of dice
+   * @return the number of values copied, or 0 if the dice have not been rolled
+   * @throws IllegalArgumentException if the array is shorter than the number of dice
+   */
+  public int getDiceValues(int[] out) {
+    if (out.length < values.length) {
+      throw new IllegalArgumentException(
+          "Array of length " + out.length + " cannot hold " + values.length + " dice values");
+    }
+    if (!hasBeenRolled()) {
+      return 0;
+    }
+    System.arraycopy(values, 0, out, 0, values.length);
+    return values.length;
+  }
+
+  /**
+   * Getter for the value of a single die in the last roll.
+   *
+   * @param index the index of the die, starting at 0
+   * @return the value of the die, or 0 if the dice have not been rolled
+   * @throws IndexOutOfBoundsException if there is no die with the given index
+   */
+  public int getValue(int index) {
+    return values[index];
+  }
+
+  /**
+   * Getter for the number of dice showing the given face in the last roll.
+   *
+   * @param face the face, from 1 to the number of sides
+   * @return the number of dice showing the face, or 0 if the dice have not been rolled
+   */
+  public int getFaceCount(int face) {
+    return face >= 1 && face < faceCounts.length ? faceCounts[face] : 0;
   }
 
   /**
@@ -77,5 +211,24 @@ public class Dice extends Die {
     for (Die die : dice) {
       die.setSides(sides);
     }
+    faceCounts = new int[sides + 1];
+    for (int value : values) {
+      if (value != 0 && value <= sides) {
+        faceCounts[value]++;
+      }
+    }
+  }
+
+  /**
+   * Setter for the random generator of every die.
+   *
+   * @param random the random generator the dice roll with
+   */
+  @Override
+  public void setRandom(RandomGenerator random) {
+    super.setRandom(random);
+    for (Die die : dice) {
+      die.setRandom(random);
+    }
   }
 }
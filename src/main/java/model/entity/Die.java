@@ -1,15 +1,16 @@
 package model.entity;
 
 import model.exception.InvalidDiceRollException;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a die with a specified number of sides.
  * The die can be rolled to get a random value between 1 and the number of sides.
+ * Each die rolls with its own random generator, which is not shared with other threads.
  */
 public class Die {
     private int value;
-    private static final Random random = new Random();
+    private RandomGenerator random;
     private int sides;
 
     /**
@@ -20,31 +21,40 @@ public class Die {
     }
 
     /**
-     * Constructor for a die with a specified number of sides.
+     * Constructor for a die with a specified number of sides, rolling with a newly seeded
+     * default random generator.
      *
      * @param sides the number of sides on the die
      * @throws InvalidDiceRollException if the number of sides is less than or equal to 0
      */
     public Die(int sides) {
+        this(sides, RandomGenerator.getDefault());
+    }
+
+    /**
+     * Constructor for a die with a specified number of sides that rolls with the given
+     * random generator.
+     *
+     * @param sides  the number of sides on the die
+     * @param random the random generator used for rolling
+     * @throws InvalidDiceRollException if the number of sides is less than or equal to 0
+     */
+    public Die(int sides, RandomGenerator random) {
         if (sides <= 0){
             throw new InvalidDiceRollException("Number of sides must be greater than 0");
         }
         this.sides = sides;
         this.value = 0;
+        this.random = random;
     }
 
     /**
      * Rolls the die and returns the value.
      *
      * @return the rolled value
-     * @throws IllegalStateException if an error occurs while rolling the die
      */
     public int rollDie() {
-        try {
-            this.value = random.nextInt(sides) + 1;
-        } catch (Exception e) {
-            throw new IllegalStateException("Error rolling die", e);
-        }
+        this.value = random.nextInt(sides) + 1;
         return this.value;
     }
 
@@ -83,4 +93,22 @@ public class Die {
         this.sides = sides;
     }
 
+    /**
+     * Returns the random generator the die rolls with.
+     *
+     * @return the random generator
+     */
+    public RandomGenerator getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Sets the random generator the die rolls with.
+     *
+     * @param random the random generator to use
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
 }
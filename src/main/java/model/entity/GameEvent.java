@@ -0,0 +1,115 @@
+package model.entity;
+
+/**
+ * Something that happened in a BoardGame, sent to every GameEventListener of the game.
+ */
+public class GameEvent {
+
+  /**
+   * The kinds of game events.
+   */
+  public enum Type {
+    /** The dice were rolled. The value is the sum of the dice. */
+    ROLLED,
+    /** A player moved from one tile and landed on another. The value is the number of steps. */
+    MOVED,
+    /** A player climbed a ladder from the tile they landed on. */
+    LADDER,
+    /** A player slid down a snake, or was sent back to start, from the tile they landed on. */
+    SNAKE,
+    /** A player was asked a question on the tile they stand on. */
+    QUESTION,
+    /** The turn passed to another player. */
+    TURN_CHANGED,
+    /** A player won the game. */
+    WON,
+    /** A player answered a question. The value is the player's score after the answer. */
+    ANSWERED
+  }
+
+  private final Type type;
+  private final Player player;
+  private final int fromTileId;
+  private final int toTileId;
+  private final int value;
+
+  /**
+   * Constructor for GameEvent.
+   *
+   * @param type       the kind of event
+   * @param player     the player the event is about
+   * @param fromTileId the tile the player was on before the event
+   * @param toTileId   the tile the player is on after the event
+   * @param value      the roll, number of steps or score, or 0 if the event has none
+   */
+  public GameEvent(Type type, Player player, int fromTileId, int toTileId, int value) {
+    this.type = type;
+    this.player = player;
+    this.fromTileId = fromTileId;
+    this.toTileId = toTileId;
+    this.value = value;
+  }
+
+  /**
+   * Creates an event for a player at their current tile, such as a question or a win.
+   *
+   * @param type   the kind of event
+   * @param player the player the event is about
+   * @return the event
+   */
+  public static GameEvent of(Type type, Player player) {
+    int tileId = player != null ? player.getCurrentTile().getTileId() : 0;
+    return new GameEvent(type, player, tileId, tileId, 0);
+  }
+
+  /**
+   * Getter for the kind of event.
+   *
+   * @return the type
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Getter for the player the event is about.
+   *
+   * @return the player
+   */
+  public Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Getter for the tile the player was on before the event.
+   *
+   * @return the tile ID
+   */
+  public int getFromTileId() {
+    return fromTileId;
+  }
+
+  /**
+   * Getter for the tile the player is on after the event.
+   *
+   * @return the tile ID
+   */
+  public int getToTileId() {
+    return toTileId;
+  }
+
+  /**
+   * Getter for the roll, number of steps or score.
+   *
+   * @return the value, or 0 if the event has none
+   */
+  public int getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return type + " " + (player != null ? player.getName() : "-")
+        + " " + fromTileId + "->" + toTileId + " (" + value + ")";
+  }
+}
@@ -0,0 +1,15 @@
+package model.entity;
+
+/**
+ * Listener for the events of a BoardGame.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+  /**
+   * Called on the thread that changed the game, right after the change.
+   *
+   * @param event what happened
+   */
+  void onGameEvent(GameEvent event);
+}
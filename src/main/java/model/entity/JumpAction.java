@@ -0,0 +1,16 @@
+package model.entity;
+
+/**
+ * This interface represents a tile action that only moves the player to another tile,
+ * like a ladder, a snake or a back-to-start tile. The board uses the destination to build
+ * its jump table.
+ */
+public interface JumpAction extends TileAction {
+
+  /**
+   * Gets the ID of the tile the player ends up on.
+   *
+   * @return the destination tile ID
+   */
+  int getDestinationTileId();
+}
@@ -4,7 +4,7 @@ package model.entity;
  * This class represents an action that sends a player back to a specified tile on the board.
  * It implements the TileAction interface.
  */
-public class LadderAction implements TileAction {
+public class LadderAction implements JumpAction {
 
   private final int destinationTileId;
   private final String message;
@@ -23,6 +23,16 @@ public class LadderAction implements TileAction {
     this.message = message;
   }
 
+  /**
+   * Gets the ID of the tile the player is sent to, limited to a maximum tile ID of 90.
+   *
+   * @return the destination tile ID
+   */
+  @Override
+  public int getDestinationTileId() {
+    return Math.min(destinationTileId, 90); // Limits the player to reach max 90
+  }
+
   /**
    * Performs the ladder action by sending the player to the specified tile.
    * The player is limited to a maximum tile ID of 90.
@@ -31,8 +41,7 @@ public class LadderAction implements TileAction {
    */
   @Override
   public void perform(Player player) {
-    int finalTile = Math.min(destinationTileId, 90); // Limits the player to reach max 90
-    player.setCurrentTile(player.getBoard().getTile(finalTile));
-    System.out.println(player.getName() + " " + message);
+    player.setCurrentTile(player.getBoard().getTile(getDestinationTileId()));
+    player.sendMessage(player.getName() + " " + message);
   }
 }
\ No newline at end of file
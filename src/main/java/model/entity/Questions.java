@@ -12,6 +12,27 @@ public class Questions {
   private List<String> options;
   private String answer;
 
+  /**
+   * Default constructor, used when questions are read with Jackson data binding.
+   */
+  public Questions() {
+  }
+
+  /**
+   * Constructor for Questions.
+   *
+   * @param tileId   the ID of the tile the question is on
+   * @param question the question text
+   * @param options  the options to choose from
+   * @param answer   the correct answer
+   */
+  public Questions(int tileId, String question, List<String> options, String answer) {
+    this.tileId = tileId;
+    this.question = question;
+    this.options = options;
+    this.answer = answer;
+  }
+
   /**
    * Getter for the tile ID.
    *
@@ -9,6 +9,7 @@ import model.exception.InvalidTileException;
 public class Tile {
   private final int tileId;
   private TileAction tileAction;
+  private Board board;
 
   /**
    * Constructor for Tile.
@@ -32,11 +33,32 @@ public class Tile {
     return tileId;
   }
 
+  /**
+   * Getter for the tile action.
+   *
+   * @return the tile action, or null if the tile has none
+   */
+  public TileAction getTileAction() {
+    return tileAction;
+  }
+
   /**
    * Setter for the tile action.
    */
   public void setTileAction(TileAction action) {
     this.tileAction = action;
+    if (board != null) {
+      board.updateJump(this);
+    }
+  }
+
+  /**
+   * Setter for the board the tile has been added to.
+   *
+   * @param board the board holding the tile
+   */
+  void setBoard(Board board) {
+    this.board = board;
   }
 
   /**
@@ -0,0 +1,10 @@
+package model.exception;
+
+/**
+ * Exception thrown when a saved game cannot be read or does not fit the game it is loaded into.
+ */
+public class InvalidSnapshotException extends RuntimeException {
+  public InvalidSnapshotException(String message) {
+    super(message);
+  }
+}
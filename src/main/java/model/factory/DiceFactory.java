@@ -0,0 +1,69 @@
+package model.factory;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import model.entity.Dice;
+import model.util.ScriptedRandom;
+
+/**
+ * Simple factory for creating dice with a chosen random generator.
+ * Algorithms are named as in java.util.random, e.g. "L64X128MixRandom",
+ * "Xoroshiro128PlusPlus" or "SplittableRandom".
+ */
+public class DiceFactory {
+
+  /** The algorithm used when none is given. */
+  public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+  /**
+   * Create dice rolling with a randomly seeded generator of the default algorithm.
+   *
+   * @param numberOfDice how many dice to create
+   * @param sides        the number of sides on each die
+   * @return the dice
+   */
+  public static Dice create(int numberOfDice, int sides) {
+    return create(numberOfDice, sides, DEFAULT_ALGORITHM);
+  }
+
+  /**
+   * Create dice rolling with a randomly seeded generator of the given algorithm.
+   *
+   * @param numberOfDice how many dice to create
+   * @param sides        the number of sides on each die
+   * @param algorithm    the name of the random generator algorithm
+   * @return the dice
+   * @throws IllegalArgumentException if the algorithm is not known
+   */
+  public static Dice create(int numberOfDice, int sides, String algorithm) {
+    return new Dice(numberOfDice, sides, RandomGenerator.of(algorithm));
+  }
+
+  /**
+   * Create dice rolling with a generator of the given algorithm and seed.
+   * Dice created with the same algorithm and seed roll the same values.
+   *
+   * @param numberOfDice how many dice to create
+   * @param sides        the number of sides on each die
+   * @param algorithm    the name of the random generator algorithm
+   * @param seed         the seed for the generator
+   * @return the dice
+   * @throws IllegalArgumentException if the algorithm is not known
+   */
+  public static Dice create(int numberOfDice, int sides, String algorithm, long seed) {
+    RandomGenerator random = RandomGeneratorFactory.of(algorithm).create(seed);
+    return new Dice(numberOfDice, sides, random);
+  }
+
+  /**
+   * Create dice that roll the given faces in order, one face per die.
+   *
+   * @param numberOfDice how many dice to create
+   * @param sides        the number of sides on each die
+   * @param faces        the faces to roll, starting over when they run out
+   * @return the dice
+   */
+  public static Dice scripted(int numberOfDice, int sides, int... faces) {
+    return new Dice(numberOfDice, sides, new ScriptedRandom(faces));
+  }
+}
@@ -0,0 +1,160 @@
+package model.logic;
+
+/**
+ * Result of analyzing a board as an absorbing Markov chain.
+ * Describes how many turns a single player needs to reach the last tile, and how often each
+ * tile is landed on along the way.
+ */
+public class BoardAnalysis {
+
+  private final double[] turnDistribution;
+  private final double[] survival;
+  private final double[] expectedVisits;
+  private final double expectedTurns;
+  private final double variance;
+  private final double unfinishedProbability;
+
+  /**
+   * Constructor for BoardAnalysis.
+   *
+   * @param turnDistribution      probability of finishing on each turn, index 0 is unused
+   * @param expectedVisits        expected number of landings on each tile, by tile ID
+   * @param unfinishedProbability probability mass left when the analysis stopped
+   */
+  BoardAnalysis(double[] turnDistribution, double[] expectedVisits,
+      double unfinishedProbability) {
+    this.turnDistribution = turnDistribution;
+    this.expectedVisits = expectedVisits;
+    this.unfinishedProbability = unfinishedProbability;
+
+    survival = new double[turnDistribution.length];
+    double remaining = 1.0;
+    double mean = 0;
+    double secondMoment = 0;
+    survival[0] = 1.0;
+    for (int t = 1; t < turnDistribution.length; t++) {
+      remaining -= turnDistribution[t];
+      survival[t] = Math.max(0, remaining);
+      mean += t * turnDistribution[t];
+      secondMoment += (double) t * t * turnDistribution[t];
+    }
+    this.expectedTurns = mean;
+    this.variance = secondMoment - mean * mean;
+  }
+
+  /**
+   * Returns the expected number of turns a single player needs to reach the last tile.
+   *
+   * @return the expected number of turns
+   */
+  public double getExpectedTurns() {
+    return expectedTurns;
+  }
+
+  /**
+   * Returns the variance of the number of turns a single player needs.
+   *
+   * @return the variance in turns squared
+   */
+  public double getVariance() {
+    return variance;
+  }
+
+  /**
+   * Returns the standard deviation of the number of turns a single player needs.
+   *
+   * @return the standard deviation in turns
+   */
+  public double getStandardDeviation() {
+    return Math.sqrt(Math.max(0, variance));
+  }
+
+  /**
+   * Returns the probability that a single player reaches the last tile on exactly the given
+   * turn.
+   *
+   * @param turn the turn, starting at 1
+   * @return the probability, or 0 if the turn is beyond the analysis
+   */
+  public double getProbabilityOfFinishingOn(int turn) {
+    return turn >= 1 && turn < turnDistribution.length ? turnDistribution[turn] : 0;
+  }
+
+  /**
+   * Returns the probability that a single player has reached the last tile after the given
+   * number of turns.
+   *
+   * @param turn the number of turns played
+   * @return the cumulative probability
+   */
+  public double getProbabilityFinishedBy(int turn) {
+    if (turn <= 0) {
+      return 0;
+    }
+    return 1.0 - survival[Math.min(turn, survival.length - 1)];
+  }
+
+  /**
+   * Returns the highest turn covered by the turn distribution.
+   *
+   * @return the last analyzed turn
+   */
+  public int getMaxTurn() {
+    return turnDistribution.length - 1;
+  }
+
+  /**
+   * Returns the expected number of times a single player lands on the given tile during a game,
+   * counting the tile reached after ladders and snakes.
+   *
+   * @param tileId the tile ID
+   * @return the expected number of landings
+   */
+  public double getExpectedVisits(int tileId) {
+    return tileId >= 1 && tileId < expectedVisits.length ? expectedVisits[tileId] : 0;
+  }
+
+  /**
+   * Returns the probability mass of games that had not finished when the analysis stopped.
+   * This is close to 0 unless the last tile is hard or impossible to reach.
+   *
+   * @return the unfinished probability
+   */
+  public double getUnfinishedProbability() {
+    return unfinishedProbability;
+  }
+
+  /**
+   * Returns the expected total number of turns in a game where the given number of players
+   * take turns and the game ends when the first player reaches the last tile.
+   *
+   * @param numberOfPlayers the number of players
+   * @return the expected number of turns over all players
+   * @throws IllegalArgumentException if the number of players is not positive
+   */
+  public double getExpectedGameTurns(int numberOfPlayers) {
+    if (numberOfPlayers <= 0) {
+      throw new IllegalArgumentException("Number of players must be greater than 0");
+    }
+    // The game has lasted more than (round - 1) * players + j turns when the first j players
+    // have not finished in this round and the rest have not finished in the previous one.
+    double expected = 0;
+    for (int round = 1; round < survival.length; round++) {
+      double current = survival[round];
+      double previous = survival[round - 1];
+      if (previous == 0) {
+        break;
+      }
+      for (int j = 0; j < numberOfPlayers; j++) {
+        expected += Math.pow(current, j) * Math.pow(previous, numberOfPlayers - j);
+      }
+    }
+    return expected;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("expected turns: %.3f, standard deviation: %.3f, unfinished: %.2e",
+        expectedTurns, getStandardDeviation(), unfinishedProbability);
+  }
+}
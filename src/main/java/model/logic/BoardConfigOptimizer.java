@@ -0,0 +1,288 @@
+package model.logic;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import model.util.BoardConfigLoader;
+import model.util.BoardConfigLoader.TileConfig;
+
+/**
+ * Searches for Snakes & Ladders layouts with a target difficulty.
+ *
+ * <p>Starting from an existing configuration, the optimizer runs one simulated annealing search
+ * per thread. Each step moves the start or the end of one ladder, snake or back-to-start tile a
+ * few tiles, and scores the new layout exactly with a MarkovAnalyzer. The score is the distance
+ * between the expected game length and the target, plus a weighted standard deviation, so
+ * lower is better. Every search has its own random stream split off the seed, so the same seed
+ * and thread count always find the same layout.</p>
+ */
+public class BoardConfigOptimizer {
+
+  private static final int LAST_TILE = 90;
+  private static final int MAX_STEP = 10;
+  private static final double START_TEMPERATURE = 2.0;
+  private static final double END_TEMPERATURE = 0.01;
+
+  private final double targetTurns;
+  private final double deviationWeight;
+  private final int numberOfPlayers;
+  private final int numberOfDice;
+  private final int threads;
+  private final long seed;
+
+  /**
+   * Constructor for BoardConfigOptimizer using one search per available core.
+   *
+   * @param targetTurns     the expected game length to aim for, in turns over all players
+   * @param deviationWeight how much each turn of standard deviation adds to the score
+   * @param numberOfPlayers the number of players in a game
+   * @param numberOfDice    the number of dice rolled each turn
+   * @param seed            the seed all random streams are split from
+   */
+  public BoardConfigOptimizer(double targetTurns, double deviationWeight, int numberOfPlayers,
+      int numberOfDice, long seed) {
+    this(targetTurns, deviationWeight, numberOfPlayers, numberOfDice, seed,
+        Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructor for BoardConfigOptimizer.
+   *
+   * @param targetTurns     the expected game length to aim for, in turns over all players
+   * @param deviationWeight how much each turn of standard deviation adds to the score
+   * @param numberOfPlayers the number of players in a game
+   * @param numberOfDice    the number of dice rolled each turn
+   * @param seed            the seed all random streams are split from
+   * @param threads         the number of parallel searches
+   * @throws IllegalArgumentException if the number of players, dice or threads is not positive
+   */
+  public BoardConfigOptimizer(double targetTurns, double deviationWeight, int numberOfPlayers,
+      int numberOfDice, long seed, int threads) {
+    if (numberOfPlayers <= 0 || numberOfDice <= 0) {
+      throw new IllegalArgumentException("Number of players and dice must be greater than 0");
+    }
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Number of threads must be greater than 0");
+    }
+    this.targetTurns = targetTurns;
+    this.deviationWeight = deviationWeight;
+    this.numberOfPlayers = numberOfPlayers;
+    this.numberOfDice = numberOfDice;
+    this.seed = seed;
+    this.threads = threads;
+  }
+
+  /**
+   * Searches for the best layout, starting from the given configuration.
+   *
+   * @param start      the layout to start from, by the ID of the tile each action starts on
+   * @param iterations the number of steps in each search
+   * @return the best layout found by any search
+   * @throws IllegalArgumentException if the starting layout is empty
+   */
+  public OptimizationResult optimize(Map<Integer, TileConfig> start, int iterations) {
+    if (start.isEmpty()) {
+      throw new IllegalArgumentException("Starting layout must have at least one action.");
+    }
+    SplittableRandom master = new SplittableRandom(seed);
+    SplittableRandom[] streams = new SplittableRandom[threads];
+    for (int i = 0; i < threads; i++) {
+      streams[i] = master.split();
+    }
+
+    long begin = System.nanoTime();
+    List<Search> searches = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      List<Future<Search>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        SplittableRandom random = streams[i];
+        futures.add(executor.submit(() -> {
+          Search search = new Search(start, random);
+          search.run(iterations);
+          return search;
+        }));
+      }
+      for (Future<Search> future : futures) {
+        searches.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Optimization was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Error optimizing board", e.getCause());
+    }
+    long elapsed = System.nanoTime() - begin;
+
+    Search best = searches.getFirst();
+    long evaluated = 0;
+    for (Search search : searches) {
+      evaluated += search.evaluated;
+      if (search.bestScore < best.bestScore) {
+        best = search;
+      }
+    }
+    Map<Integer, TileConfig> config = best.toConfig(best.bestFrom, best.bestTo);
+    BoardAnalysis analysis = best.analyze(config);
+    return new OptimizationResult(config, analysis, analysis.getExpectedGameTurns(numberOfPlayers),
+        best.bestScore, evaluated, elapsed);
+  }
+
+  /**
+   * Runs an optimization from the command line, prints the result and writes the best layout.
+   * Arguments, all optional: target turns, output file, starting config path, iterations per
+   * search, number of players, number of dice, seed.
+   *
+   * @param args command line arguments
+   * @throws IOException if the output file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    double target = args.length > 0 ? Double.parseDouble(args[0]) : 25;
+    Path output = Path.of(args.length > 1
+        ? args[1]
+        : "src/main/resources/config/snakes_and_ladders/sl_generated_config.json");
+    String startConfig = args.length > 2
+        ? args[2]
+        : "config/snakes_and_ladders/sl_hard_config.json";
+    int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 5_000;
+    int numberOfPlayers = args.length > 4 ? Integer.parseInt(args[4]) : 2;
+    int numberOfDice = args.length > 5 ? Integer.parseInt(args[5]) : 2;
+    long seed = args.length > 6 ? Long.parseLong(args[6]) : 2003;
+
+    BoardConfigOptimizer optimizer =
+        new BoardConfigOptimizer(target, 0.1, numberOfPlayers, numberOfDice, seed);
+    OptimizationResult result =
+        optimizer.optimize(BoardConfigLoader.loadConfig(startConfig), iterations);
+    System.out.println(result);
+    BoardConfigLoader.writeConfig(result.getConfig(), output);
+    System.out.println("Wrote " + output);
+  }
+
+  /**
+   * A single simulated annealing search. The layout is kept as parallel arrays of start and
+   * destination tiles, and the messages are carried over from the starting layout.
+   */
+  private class Search {
+    private final SplittableRandom random;
+    private final MarkovAnalyzer analyzer = new MarkovAnalyzer(numberOfDice, 6);
+    private final int[] from;
+    private final int[] to;
+    private final String[] messages;
+    private int[] bestFrom;
+    private int[] bestTo;
+    private double bestScore;
+    private long evaluated;
+
+    Search(Map<Integer, TileConfig> start, SplittableRandom random) {
+      this.random = random;
+      Map<Integer, TileConfig> sorted = new TreeMap<>(start);
+      from = new int[sorted.size()];
+      to = new int[sorted.size()];
+      messages = new String[sorted.size()];
+      int i = 0;
+      for (Map.Entry<Integer, TileConfig> entry : sorted.entrySet()) {
+        from[i] = entry.getKey();
+        to[i] = entry.getValue().to;
+        messages[i] = entry.getValue().message;
+        i++;
+      }
+    }
+
+    void run(int iterations) {
+      double score = score();
+      bestScore = score;
+      bestFrom = from.clone();
+      bestTo = to.clone();
+
+      for (int step = 0; step < iterations; step++) {
+        double temperature = START_TEMPERATURE
+            * Math.pow(END_TEMPERATURE / START_TEMPERATURE, step / (double) iterations);
+        int i = random.nextInt(from.length);
+        int oldFrom = from[i];
+        int oldTo = to[i];
+        if (!mutate(i)) {
+          continue;
+        }
+
+        double candidate = score();
+        if (candidate <= score || random.nextDouble() < Math.exp((score - candidate) / temperature)) {
+          score = candidate;
+          if (score < bestScore) {
+            bestScore = score;
+            System.arraycopy(from, 0, bestFrom, 0, from.length);
+            System.arraycopy(to, 0, bestTo, 0, to.length);
+          }
+        } else {
+          from[i] = oldFrom;
+          to[i] = oldTo;
+        }
+      }
+    }
+
+    /**
+     * Moves the start or end of one action a few tiles, keeping ladders going up, snakes going
+     * down and back-to-start tiles leading to tile 1.
+     *
+     * @return true if the new layout is valid, false if the action was left unchanged
+     */
+    private boolean mutate(int i) {
+      int step = random.nextInt(1, MAX_STEP + 1) * (random.nextBoolean() ? 1 : -1);
+      boolean backToStart = to[i] == 1;
+      boolean ladder = to[i] > from[i];
+      int newFrom = from[i];
+      int newTo = to[i];
+      if (backToStart || random.nextBoolean()) {
+        newFrom += step;
+      } else {
+        newTo += step;
+      }
+
+      if (newFrom < 2 || newFrom >= LAST_TILE) {
+        return false;
+      }
+      if (backToStart) {
+        newTo = 1;
+      } else if (ladder ? newTo <= newFrom || newTo > LAST_TILE : newTo >= newFrom || newTo < 2) {
+        return false;
+      }
+      for (int j = 0; j < from.length; j++) {
+        if (j != i && (from[j] == newFrom || to[j] == newFrom || from[j] == newTo)) {
+          return false;
+        }
+      }
+      from[i] = newFrom;
+      to[i] = newTo;
+      return true;
+    }
+
+    private double score() {
+      evaluated++;
+      BoardAnalysis analysis = analyze(toConfig(from, to));
+      if (analysis.getUnfinishedProbability() > 1e-6) {
+        return Double.MAX_VALUE;
+      }
+      return Math.abs(analysis.getExpectedGameTurns(numberOfPlayers) - targetTurns)
+          + deviationWeight * analysis.getStandardDeviation();
+    }
+
+    BoardAnalysis analyze(Map<Integer, TileConfig> config) {
+      return analyzer.analyze(CompiledBoard.fromConfig(config, numberOfDice * 6));
+    }
+
+    Map<Integer, TileConfig> toConfig(int[] starts, int[] destinations) {
+      Map<Integer, TileConfig> config = new HashMap<>();
+      for (int i = 0; i < starts.length; i++) {
+        config.put(starts[i], new TileConfig(destinations[i], messages[i]));
+      }
+      return config;
+    }
+  }
+}
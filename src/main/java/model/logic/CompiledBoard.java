@@ -0,0 +1,181 @@
+package model.logic;
+
+import java.util.Map;
+import model.entity.Board;
+import model.entity.BoardGame;
+import model.entity.JumpAction;
+import model.entity.Player;
+import model.entity.Tile;
+import model.entity.TileAction;
+import model.util.BoardConfigLoader.TileConfig;
+
+/**
+ * A compiled form of a Board for fast movement.
+ *
+ * <p>The board is turned into a transition table that maps every (tile, roll) pair to the tile
+ * the player finally rests on, after limiting the move to the last tile and following ladders,
+ * snakes and back-to-start tiles. Moving a player is then a single array load instead of a
+ * walk through the tile and action objects.</p>
+ *
+ * <p>Tiles with a custom TileAction cannot be compiled, since the action may do anything. Moves
+ * ending on such a tile fall back to Player.move. The table is built once, so it must be
+ * compiled again if the tile actions of the board change.</p>
+ */
+public class CompiledBoard {
+
+  /** Table entry for moves that must go through the object graph. */
+  public static final int FALLBACK = 0;
+
+  private final Board board;
+  private final int lastTileId;
+  private final int maxRoll;
+  private final int stride;
+  private final int[] transitions;
+  private final boolean fullyCompiled;
+
+  private CompiledBoard(Board board, int lastTileId, int maxRoll, int[] transitions,
+      boolean fullyCompiled) {
+    this.board = board;
+    this.lastTileId = lastTileId;
+    this.maxRoll = maxRoll;
+    this.stride = maxRoll + 1;
+    this.transitions = transitions;
+    this.fullyCompiled = fullyCompiled;
+  }
+
+  /**
+   * Compiles a board for rolls from 0 up to the given maximum.
+   *
+   * @param board   the board to compile, with tiles 1 to N
+   * @param maxRoll the highest roll the table covers
+   * @return the compiled board
+   * @throws IllegalArgumentException if the maximum roll is negative or the board is empty
+   */
+  public static CompiledBoard compile(Board board, int maxRoll) {
+    if (maxRoll < 0) {
+      throw new IllegalArgumentException("Maximum roll cannot be negative.");
+    }
+    int lastTileId = board.getTileCount();
+    if (lastTileId == 0) {
+      throw new IllegalArgumentException("Board must have tiles to be compiled.");
+    }
+    int stride = maxRoll + 1;
+    int[] transitions = new int[(lastTileId + 1) * stride];
+    boolean fullyCompiled = true;
+
+    for (int tileId = 1; tileId <= lastTileId; tileId++) {
+      for (int roll = 0; roll <= maxRoll; roll++) {
+        int target = Math.max(1, Math.min(tileId + roll, lastTileId));
+        int destination = resolve(board, board.getTile(target));
+        if (destination == FALLBACK) {
+          fullyCompiled = false;
+        }
+        transitions[tileId * stride + roll] = destination;
+      }
+    }
+    return new CompiledBoard(board, lastTileId, maxRoll, transitions, fullyCompiled);
+  }
+
+  /**
+   * Compiles the Snakes & Ladders board described by a configuration file.
+   *
+   * @param configPath the path to the configuration file
+   * @param maxRoll    the highest roll the table covers
+   * @return the compiled board
+   */
+  public static CompiledBoard fromConfig(String configPath, int maxRoll) {
+    BoardGame game = new BoardGame();
+    game.createBoard("snakesandladders", configPath);
+    return compile(game.getBoard(), maxRoll);
+  }
+
+  /**
+   * Compiles the Snakes & Ladders board described by an already loaded configuration.
+   *
+   * @param config  the tile actions, by the ID of the tile they start on
+   * @param maxRoll the highest roll the table covers
+   * @return the compiled board
+   */
+  public static CompiledBoard fromConfig(Map<Integer, TileConfig> config, int maxRoll) {
+    BoardGame game = new BoardGame();
+    game.createSnakesAndLaddersBoard(config);
+    return compile(game.getBoard(), maxRoll);
+  }
+
+  private static int resolve(Board board, Tile tile) {
+    TileAction action = tile.getTileAction();
+    if (action == null) {
+      return tile.getTileId();
+    }
+    if (action instanceof JumpAction) {
+      return board.getJumpDestination(tile.getTileId());
+    }
+    return FALLBACK;
+  }
+
+  /**
+   * Returns the tile a player on the given tile finally rests on after the given roll.
+   *
+   * @param tileId the ID of the tile the player stands on
+   * @param roll   the number rolled
+   * @return the ID of the destination tile, or FALLBACK if the move cannot be compiled
+   */
+  public int next(int tileId, int roll) {
+    if (tileId < 1 || tileId > lastTileId || roll < 0 || roll > maxRoll) {
+      return FALLBACK;
+    }
+    return transitions[tileId * stride + roll];
+  }
+
+  /**
+   * Moves a player with the transition table. Moves that cannot be compiled go through
+   * Player.move. Tile action messages are only sent on the fallback path.
+   *
+   * @param player the player to move
+   * @param roll   the number rolled
+   */
+  public void move(Player player, int roll) {
+    int destination = next(player.getCurrentTile().getTileId(), roll);
+    if (destination == FALLBACK) {
+      player.move(roll);
+    } else {
+      player.setCurrentTile(board.getTile(destination));
+    }
+  }
+
+  /**
+   * Getter for the compiled board.
+   *
+   * @return the board
+   */
+  public Board getBoard() {
+    return board;
+  }
+
+  /**
+   * Getter for the last tile, which is the goal of the game.
+   *
+   * @return the ID of the last tile
+   */
+  public int getLastTileId() {
+    return lastTileId;
+  }
+
+  /**
+   * Getter for the highest roll the table covers.
+   *
+   * @return the maximum roll
+   */
+  public int getMaxRoll() {
+    return maxRoll;
+  }
+
+  /**
+   * Checks whether every move could be compiled, so no move falls back to Player.move.
+   *
+   * @return true if the board has no custom tile actions
+   */
+  public boolean isFullyCompiled() {
+    return fullyCompiled;
+  }
+}
@@ -0,0 +1,186 @@
+package model.logic;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+import model.entity.Board;
+import model.entity.BoardGame;
+import model.entity.Dice;
+import model.entity.Player;
+import model.entity.Tile;
+import model.factory.BoardGameFactory;
+
+/**
+ * Headless simulation engine for Snakes & Ladders.
+ * Plays complete games on a BoardGame without any view, using the same board, dice and
+ * player movement as the JavaFX game, and collects the outcomes in a SimulationResult.
+ *
+ * <p>The players are reused between games and only moved back to the start tile, so running
+ * a batch does not allocate per turn. Moves go through a CompiledBoard, which falls back to
+ * Player.move for tiles with custom actions.</p>
+ */
+public class GameSimulator {
+
+  /** Turn limit for a single game, so a board without a reachable goal cannot loop forever. */
+  public static final int DEFAULT_MAX_TURNS = 10_000;
+
+  private final BoardGame game;
+  private final int maxTurns;
+
+  /**
+   * Constructor for GameSimulator with the default turn limit.
+   *
+   * @param game            the game to simulate, with board and dice created
+   * @param numberOfPlayers the number of players to add if the game has none
+   */
+  public GameSimulator(BoardGame game, int numberOfPlayers) {
+    this(game, numberOfPlayers, DEFAULT_MAX_TURNS);
+  }
+
+  /**
+   * Constructor for GameSimulator.
+   *
+   * @param game            the game to simulate, with board and dice created
+   * @param numberOfPlayers the number of players to add if the game has none
+   * @param maxTurns        the number of turns after which a game is stopped as unfinished
+   * @throws IllegalArgumentException if the game has no dice, or the player count or turn
+   *                                  limit is not positive
+   */
+  public GameSimulator(BoardGame game, int numberOfPlayers, int maxTurns) {
+    if (game.getDice() == null) {
+      throw new IllegalArgumentException("Dice must be created before simulating.");
+    }
+    if (maxTurns <= 0) {
+      throw new IllegalArgumentException("Turn limit must be greater than 0");
+    }
+    if (game.getPlayers().isEmpty()) {
+      if (numberOfPlayers <= 0) {
+        throw new IllegalArgumentException("Number of players must be greater than 0");
+      }
+      for (int i = 0; i < numberOfPlayers; i++) {
+        game.addPlayer(new SimulatedPlayer("Player " + (i + 1), game.getBoard()));
+      }
+    }
+    this.game = game;
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Getter for the simulated game.
+   *
+   * @return the game
+   */
+  public BoardGame getGame() {
+    return game;
+  }
+
+  /**
+   * Plays the given number of games to completion.
+   * Every game starts with all players on tile 1 and the first player to move.
+   *
+   * @param numberOfGames the number of games to play
+   * @return the aggregated outcome of all games
+   */
+  public SimulationResult run(long numberOfGames) {
+    Board board = game.getBoard();
+    Dice dice = game.getDice();
+    List<Player> players = game.getPlayers();
+    int playerCount = players.size();
+    int goalTileId = board.getTileCount();
+    Tile startTile = board.getTile(1);
+    CompiledBoard compiled =
+        CompiledBoard.compile(board, dice.getNumberOfDice() * dice.getSides());
+
+    long[] wins = new long[playerCount];
+    long turns = 0;
+    long unfinished = 0;
+    long ladders = 0;
+    long snakes = 0;
+    int minTurns = Integer.MAX_VALUE;
+    int maxTurnsSeen = 0;
+
+    long start = System.nanoTime();
+    for (long g = 0; g < numberOfGames; g++) {
+      for (int i = 0; i < playerCount; i++) {
+        players.get(i).setCurrentTile(startTile);
+      }
+
+      int seat = 0;
+      int gameTurns = 0;
+      while (true) {
+        Player player = players.get(seat);
+        game.setCurrentPlayer(player);
+        int from = player.getCurrentTile().getTileId();
+        int roll = dice.rollDice();
+        compiled.move(player, roll);
+        gameTurns++;
+
+        int target = Math.max(1, Math.min(from + roll, goalTileId));
+        int landed = player.getCurrentTile().getTileId();
+        if (landed > target) {
+          ladders++;
+        } else if (landed < target) {
+          snakes++;
+        }
+
+        if (landed == goalTileId) {
+          wins[seat]++;
+          minTurns = Math.min(minTurns, gameTurns);
+          maxTurnsSeen = Math.max(maxTurnsSeen, gameTurns);
+          break;
+        }
+        if (gameTurns >= maxTurns) {
+          unfinished++;
+          break;
+        }
+        seat = seat + 1 == playerCount ? 0 : seat + 1;
+      }
+      turns += gameTurns;
+    }
+    long elapsed = System.nanoTime() - start;
+
+    if (minTurns == Integer.MAX_VALUE) {
+      minTurns = 0;
+    }
+    return new SimulationResult(numberOfGames, turns, wins, unfinished,
+        minTurns, maxTurnsSeen, ladders, snakes, elapsed);
+  }
+
+  /**
+   * Runs a batch simulation from the command line and prints the result.
+   * Arguments, all optional: config path, number of games, number of players, number of dice,
+   * random generator algorithm.
+   *
+   * @param args command line arguments
+   */
+  public static void main(String[] args) {
+    String configPath = args.length > 0
+        ? args[0]
+        : "config/snakes_and_ladders/sl_easy_config.json";
+    long games = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000;
+    int numberOfPlayers = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+    int numberOfDice = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+
+    BoardGame game = BoardGameFactory.create("snakesandladders", configPath, numberOfDice);
+    if (args.length > 4) {
+      game.getDice().setRandom(RandomGenerator.of(args[4]));
+    }
+    GameSimulator simulator = new GameSimulator(game, numberOfPlayers);
+    System.out.println(simulator.run(games));
+  }
+
+  /**
+   * A player that does not print the tile action messages, which would otherwise dominate
+   * the cost of a simulated turn.
+   */
+  private static class SimulatedPlayer extends Player {
+
+    SimulatedPlayer(String name, Board board) {
+      super(name, board, "Car");
+    }
+
+    @Override
+    public void sendMessage(String message) {
+      // Simulated games are silent
+    }
+  }
+}
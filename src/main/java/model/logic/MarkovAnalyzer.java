@@ -0,0 +1,214 @@
+package model.logic;
+
+import java.util.Arrays;
+import model.entity.Board;
+import model.entity.BoardGame;
+import model.factory.BoardGameFactory;
+
+/**
+ * Exact analyzer for Snakes & Ladders boards.
+ *
+ * <p>A board and a dice distribution form an absorbing Markov chain, where each tile is a state
+ * and the last tile absorbs. The analyzer builds the sparse transition matrix from a
+ * CompiledBoard and iterates the state distribution turn by turn, which gives the distribution
+ * of turns to finish and the expected landings per tile without simulating any games.</p>
+ *
+ * <p>An analyzer keeps the roll distribution for its dice and can be reused for any number of
+ * boards. It is not thread-safe.</p>
+ */
+public class MarkovAnalyzer {
+
+  /** Remaining probability below which the iteration stops. */
+  public static final double DEFAULT_TOLERANCE = 1e-12;
+
+  /** Turn limit for boards where the last tile is hard or impossible to reach. */
+  public static final int DEFAULT_MAX_TURNS = 10_000;
+
+  private final double[] rollDistribution;
+  private final int maxRoll;
+  private final double tolerance;
+  private final int maxTurns;
+
+  /**
+   * Constructor for MarkovAnalyzer with the default tolerance and turn limit.
+   *
+   * @param numberOfDice the number of dice rolled each turn
+   * @param sides        the number of sides on each die
+   */
+  public MarkovAnalyzer(int numberOfDice, int sides) {
+    this(numberOfDice, sides, DEFAULT_TOLERANCE, DEFAULT_MAX_TURNS);
+  }
+
+  /**
+   * Constructor for MarkovAnalyzer.
+   *
+   * @param numberOfDice the number of dice rolled each turn
+   * @param sides        the number of sides on each die
+   * @param tolerance    remaining probability below which the iteration stops
+   * @param maxTurns     the highest number of turns to analyze
+   * @throws IllegalArgumentException if the number of dice, sides or turns is not positive
+   */
+  public MarkovAnalyzer(int numberOfDice, int sides, double tolerance, int maxTurns) {
+    if (numberOfDice <= 0 || sides <= 0) {
+      throw new IllegalArgumentException("Number of dice and sides must be greater than 0");
+    }
+    if (maxTurns <= 0) {
+      throw new IllegalArgumentException("Turn limit must be greater than 0");
+    }
+    this.rollDistribution = rollDistribution(numberOfDice, sides);
+    this.maxRoll = numberOfDice * sides;
+    this.tolerance = tolerance;
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Creates an analyzer for the dice of a game.
+   *
+   * @param game the game, with dice created
+   * @return an analyzer for the same dice
+   */
+  public static MarkovAnalyzer forGame(BoardGame game) {
+    return new MarkovAnalyzer(game.getDice().getNumberOfDice(), game.getDice().getSides());
+  }
+
+  /**
+   * Computes the distribution of the sum of the given dice by repeated convolution.
+   */
+  private static double[] rollDistribution(int numberOfDice, int sides) {
+    double[] distribution = {1.0};
+    for (int d = 0; d < numberOfDice; d++) {
+      double[] next = new double[distribution.length + sides];
+      for (int sum = 0; sum < distribution.length; sum++) {
+        if (distribution[sum] == 0) {
+          continue;
+        }
+        for (int face = 1; face <= sides; face++) {
+          next[sum + face] += distribution[sum] / sides;
+        }
+      }
+      distribution = next;
+    }
+    return distribution;
+  }
+
+  /**
+   * Returns the probability of each roll sum, indexed by the sum.
+   *
+   * @return a copy of the roll distribution
+   */
+  public double[] getRollDistribution() {
+    return rollDistribution.clone();
+  }
+
+  /**
+   * Analyzes a board.
+   *
+   * @param board the board to analyze
+   * @return the analysis
+   */
+  public BoardAnalysis analyze(Board board) {
+    return analyze(CompiledBoard.compile(board, maxRoll));
+  }
+
+  /**
+   * Analyzes a compiled board.
+   *
+   * @param compiled the compiled board, covering the rolls of this analyzer's dice
+   * @return the analysis
+   * @throws IllegalArgumentException if the board has custom tile actions or does not cover
+   *                                  every roll
+   */
+  public BoardAnalysis analyze(CompiledBoard compiled) {
+    if (!compiled.isFullyCompiled()) {
+      throw new IllegalArgumentException("Boards with custom tile actions cannot be analyzed.");
+    }
+    if (compiled.getMaxRoll() < maxRoll) {
+      throw new IllegalArgumentException(
+          "Compiled board only covers rolls up to " + compiled.getMaxRoll());
+    }
+    int last = compiled.getLastTileId();
+
+    // Sparse transition matrix in compressed rows: tile -> (destination, probability)
+    int[] rowStart = new int[last + 2];
+    int[] columns = new int[last * rollDistribution.length];
+    double[] probabilities = new double[columns.length];
+    double[] rowBuffer = new double[last + 1];
+    int entries = 0;
+    for (int tile = 1; tile <= last; tile++) {
+      rowStart[tile] = entries;
+      for (int roll = 0; roll < rollDistribution.length; roll++) {
+        if (rollDistribution[roll] != 0) {
+          rowBuffer[compiled.next(tile, roll)] += rollDistribution[roll];
+        }
+      }
+      for (int destination = 1; destination <= last; destination++) {
+        if (rowBuffer[destination] != 0) {
+          columns[entries] = destination;
+          probabilities[entries] = rowBuffer[destination];
+          entries++;
+          rowBuffer[destination] = 0;
+        }
+      }
+    }
+    rowStart[last + 1] = entries;
+
+    double[] state = new double[last + 1];
+    double[] next = new double[last + 1];
+    double[] visits = new double[last + 1];
+    double[] finishing = new double[Math.min(maxTurns, 1024) + 1];
+    state[1] = 1.0;
+    double remaining = 1.0;
+    int turn = 0;
+
+    while (remaining > tolerance && turn < maxTurns) {
+      turn++;
+      Arrays.fill(next, 0);
+      for (int tile = 1; tile < last; tile++) {
+        double mass = state[tile];
+        if (mass == 0) {
+          continue;
+        }
+        for (int e = rowStart[tile]; e < rowStart[tile + 1]; e++) {
+          next[columns[e]] += mass * probabilities[e];
+        }
+      }
+      for (int tile = 1; tile <= last; tile++) {
+        visits[tile] += next[tile];
+      }
+      double absorbed = next[last];
+      next[last] = 0;
+      if (turn >= finishing.length) {
+        finishing = Arrays.copyOf(finishing, Math.min(maxTurns, finishing.length * 2) + 1);
+      }
+      finishing[turn] = absorbed;
+      remaining -= absorbed;
+
+      double[] swap = state;
+      state = next;
+      next = swap;
+    }
+
+    return new BoardAnalysis(Arrays.copyOf(finishing, turn + 1), visits,
+        Math.max(0, remaining));
+  }
+
+  /**
+   * Analyzes a board configuration from the command line and prints the result.
+   * Arguments, all optional: config path, number of dice, number of players.
+   *
+   * @param args command line arguments
+   */
+  public static void main(String[] args) {
+    String configPath = args.length > 0
+        ? args[0]
+        : "config/snakes_and_ladders/sl_easy_config.json";
+    int numberOfDice = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+    int numberOfPlayers = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+
+    BoardGame game = BoardGameFactory.create("snakesandladders", configPath, numberOfDice);
+    BoardAnalysis analysis = forGame(game).analyze(game.getBoard());
+    System.out.println(analysis);
+    System.out.printf("expected game turns with %d players: %.3f%n",
+        numberOfPlayers, analysis.getExpectedGameTurns(numberOfPlayers));
+  }
+}
@@ -0,0 +1,112 @@
+package model.logic;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import model.util.BoardConfigLoader.TileConfig;
+
+/**
+ * The best board layout found by a BoardConfigOptimizer, with its analysis and how fast
+ * candidates were evaluated.
+ */
+public class OptimizationResult {
+
+  private final Map<Integer, TileConfig> config;
+  private final BoardAnalysis analysis;
+  private final double expectedGameTurns;
+  private final double score;
+  private final long candidatesEvaluated;
+  private final long elapsedNanos;
+
+  /**
+   * Constructor for OptimizationResult.
+   *
+   * @param config              the best layout, by the ID of the tile each action starts on
+   * @param analysis            the analysis of the best layout
+   * @param expectedGameTurns   the expected game length of the best layout
+   * @param score               the score of the best layout, lower is better
+   * @param candidatesEvaluated the number of layouts evaluated over all searches
+   * @param elapsedNanos        the wall-clock time of the optimization in nanoseconds
+   */
+  public OptimizationResult(Map<Integer, TileConfig> config, BoardAnalysis analysis,
+      double expectedGameTurns, double score, long candidatesEvaluated, long elapsedNanos) {
+    this.config = Collections.unmodifiableMap(new TreeMap<>(config));
+    this.analysis = analysis;
+    this.expectedGameTurns = expectedGameTurns;
+    this.score = score;
+    this.candidatesEvaluated = candidatesEvaluated;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Getter for the best layout.
+   *
+   * @return a read-only map of tile actions, by the ID of the tile they start on
+   */
+  public Map<Integer, TileConfig> getConfig() {
+    return config;
+  }
+
+  /**
+   * Getter for the analysis of the best layout.
+   *
+   * @return the analysis
+   */
+  public BoardAnalysis getAnalysis() {
+    return analysis;
+  }
+
+  /**
+   * Getter for the expected game length of the best layout.
+   *
+   * @return the expected number of turns over all players
+   */
+  public double getExpectedGameTurns() {
+    return expectedGameTurns;
+  }
+
+  /**
+   * Getter for the score of the best layout.
+   *
+   * @return the score, lower is better
+   */
+  public double getScore() {
+    return score;
+  }
+
+  /**
+   * Getter for the number of layouts evaluated.
+   *
+   * @return the number of candidates
+   */
+  public long getCandidatesEvaluated() {
+    return candidatesEvaluated;
+  }
+
+  /**
+   * Getter for the wall-clock time of the optimization.
+   *
+   * @return the elapsed time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns how many layouts were evaluated per second.
+   *
+   * @return the candidate throughput
+   */
+  public double getCandidatesPerSecond() {
+    return elapsedNanos == 0 ? 0 : candidatesEvaluated * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d candidates in %.1f ms (%.0f candidates/s)%n"
+            + "score: %.4f, expected game turns: %.3f, %s",
+        candidatesEvaluated, elapsedNanos / 1e6, getCandidatesPerSecond(),
+        score, expectedGameTurns, analysis);
+  }
+}
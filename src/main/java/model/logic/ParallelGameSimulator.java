@@ -0,0 +1,140 @@
+package model.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import model.entity.BoardGame;
+import model.factory.BoardGameFactory;
+
+/**
+ * Runs batch simulations of Snakes & Ladders on all cores.
+ *
+ * <p>The games are split into fixed-size chunks, and every chunk rolls with its own
+ * SplittableRandom stream split off a master seed. Each worker thread has its own BoardGame
+ * and takes chunks until none are left. Since the chunks and their streams do not depend on
+ * the number of threads, the same master seed always gives the same aggregated result.</p>
+ */
+public class ParallelGameSimulator {
+
+  /** Number of games played with one random stream. */
+  public static final int GAMES_PER_CHUNK = 10_000;
+
+  private final String configPath;
+  private final int numberOfPlayers;
+  private final int numberOfDice;
+  private final int threads;
+  private final long masterSeed;
+
+  /**
+   * Constructor for ParallelGameSimulator using one thread per available core.
+   *
+   * @param configPath      the path to the board configuration file
+   * @param numberOfPlayers the number of players in each game
+   * @param numberOfDice    the number of dice rolled each turn
+   * @param masterSeed      the seed all random streams are split from
+   */
+  public ParallelGameSimulator(String configPath, int numberOfPlayers, int numberOfDice,
+      long masterSeed) {
+    this(configPath, numberOfPlayers, numberOfDice, masterSeed,
+        Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructor for ParallelGameSimulator.
+   *
+   * @param configPath      the path to the board configuration file
+   * @param numberOfPlayers the number of players in each game
+   * @param numberOfDice    the number of dice rolled each turn
+   * @param masterSeed      the seed all random streams are split from
+   * @param threads         the number of worker threads
+   * @throws IllegalArgumentException if the number of threads is not positive
+   */
+  public ParallelGameSimulator(String configPath, int numberOfPlayers, int numberOfDice,
+      long masterSeed, int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Number of threads must be greater than 0");
+    }
+    this.configPath = configPath;
+    this.numberOfPlayers = numberOfPlayers;
+    this.numberOfDice = numberOfDice;
+    this.masterSeed = masterSeed;
+    this.threads = threads;
+  }
+
+  /**
+   * Plays the given number of games spread over the worker threads.
+   *
+   * @param numberOfGames the number of games to play
+   * @return the aggregated outcome of all games
+   */
+  public SimulationResult run(long numberOfGames) {
+    int chunks = (int) ((numberOfGames + GAMES_PER_CHUNK - 1) / GAMES_PER_CHUNK);
+    SplittableRandom master = new SplittableRandom(masterSeed);
+    SplittableRandom[] streams = new SplittableRandom[chunks];
+    for (int i = 0; i < chunks; i++) {
+      streams[i] = master.split();
+    }
+
+    SimulationResult[] results = new SimulationResult[chunks];
+    AtomicInteger nextChunk = new AtomicInteger();
+    int workers = Math.min(threads, Math.max(chunks, 1));
+
+    long start = System.nanoTime();
+    try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int w = 0; w < workers; w++) {
+        futures.add(executor.submit(() -> {
+          BoardGame game = BoardGameFactory.create("snakesandladders", configPath, numberOfDice);
+          GameSimulator simulator = new GameSimulator(game, numberOfPlayers);
+          int chunk;
+          while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+            long games = Math.min(GAMES_PER_CHUNK, numberOfGames - (long) chunk * GAMES_PER_CHUNK);
+            game.getDice().setRandom(streams[chunk]);
+            results[chunk] = simulator.run(games);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Error running simulation", e.getCause());
+    }
+    long elapsed = System.nanoTime() - start;
+
+    return SimulationResult.merge(Arrays.asList(results), elapsed);
+  }
+
+  /**
+   * Runs a parallel batch simulation from the command line and prints the result.
+   * Arguments, all optional: config path, number of games, number of players, number of dice,
+   * master seed, number of threads.
+   *
+   * @param args command line arguments
+   */
+  public static void main(String[] args) {
+    String configPath = args.length > 0
+        ? args[0]
+        : "config/snakes_and_ladders/sl_easy_config.json";
+    long games = args.length > 1 ? Long.parseLong(args[1]) : 10_000_000;
+    int numberOfPlayers = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+    int numberOfDice = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+    long seed = args.length > 4 ? Long.parseLong(args[4]) : 2003;
+    int threads = args.length > 5
+        ? Integer.parseInt(args[5])
+        : Runtime.getRuntime().availableProcessors();
+
+    ParallelGameSimulator simulator =
+        new ParallelGameSimulator(configPath, numberOfPlayers, numberOfDice, seed, threads);
+    System.out.println(simulator.run(games));
+  }
+}
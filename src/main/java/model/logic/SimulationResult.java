@@ -0,0 +1,206 @@
+package model.logic;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregated outcome of a batch of simulated games.
+ * Holds the number of games and turns played, wins per seat, ladder and snake hits,
+ * and the wall-clock time the batch took.
+ */
+public class SimulationResult {
+
+  private final long games;
+  private final long turns;
+  private final long[] winsBySeat;
+  private final long unfinishedGames;
+  private final int minTurns;
+  private final int maxTurns;
+  private final long ladders;
+  private final long snakes;
+  private final long elapsedNanos;
+
+  /**
+   * Constructor for SimulationResult.
+   *
+   * @param games           the number of games played
+   * @param turns           the total number of turns over all games
+   * @param winsBySeat      the number of wins for each seat, in turn order
+   * @param unfinishedGames the number of games stopped at the turn limit
+   * @param minTurns        the fewest turns a finished game took
+   * @param maxTurns        the most turns a finished game took
+   * @param ladders         the number of times a player climbed a ladder
+   * @param snakes          the number of times a player was sent down a snake or back to start
+   * @param elapsedNanos    the wall-clock time of the batch in nanoseconds
+   */
+  public SimulationResult(long games, long turns, long[] winsBySeat, long unfinishedGames,
+      int minTurns, int maxTurns, long ladders, long snakes, long elapsedNanos) {
+    this.games = games;
+    this.turns = turns;
+    this.winsBySeat = winsBySeat.clone();
+    this.unfinishedGames = unfinishedGames;
+    this.minTurns = minTurns;
+    this.maxTurns = maxTurns;
+    this.ladders = ladders;
+    this.snakes = snakes;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Getter for the number of games played.
+   *
+   * @return the number of games
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Getter for the total number of turns over all games.
+   *
+   * @return the number of turns
+   */
+  public long getTurns() {
+    return turns;
+  }
+
+  /**
+   * Getter for the wins of each seat, in turn order.
+   *
+   * @return a copy of the wins per seat
+   */
+  public long[] getWinsBySeat() {
+    return winsBySeat.clone();
+  }
+
+  /**
+   * Getter for the number of games stopped at the turn limit without a winner.
+   *
+   * @return the number of unfinished games
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Getter for the fewest turns a finished game took.
+   *
+   * @return the minimum number of turns, or 0 if no game finished
+   */
+  public int getMinTurns() {
+    return minTurns;
+  }
+
+  /**
+   * Getter for the most turns a finished game took.
+   *
+   * @return the maximum number of turns, or 0 if no game finished
+   */
+  public int getMaxTurns() {
+    return maxTurns;
+  }
+
+  /**
+   * Getter for the number of ladders climbed.
+   *
+   * @return the number of ladder hits
+   */
+  public long getLadders() {
+    return ladders;
+  }
+
+  /**
+   * Getter for the number of snakes and back-to-start tiles hit.
+   *
+   * @return the number of snake hits
+   */
+  public long getSnakes() {
+    return snakes;
+  }
+
+  /**
+   * Getter for the wall-clock time of the batch.
+   *
+   * @return the elapsed time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the average number of turns per game.
+   *
+   * @return the average game length in turns
+   */
+  public double getAverageTurns() {
+    return games == 0 ? 0 : (double) turns / games;
+  }
+
+  /**
+   * Returns how many games were simulated per second.
+   *
+   * @return the game throughput
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns how many turns were simulated per second.
+   *
+   * @return the turn throughput
+   */
+  public double getTurnsPerSecond() {
+    return elapsedNanos == 0 ? 0 : turns * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Combines the results of several batches into one.
+   * The batches must have the same number of seats.
+   *
+   * @param results      the batch results to combine
+   * @param elapsedNanos the wall-clock time of all batches together
+   * @return the combined result
+   */
+  public static SimulationResult merge(List<SimulationResult> results, long elapsedNanos) {
+    long games = 0;
+    long turns = 0;
+    long unfinished = 0;
+    long ladders = 0;
+    long snakes = 0;
+    int minTurns = Integer.MAX_VALUE;
+    int maxTurns = 0;
+    long[] wins = results.isEmpty() ? new long[0] : new long[results.getFirst().winsBySeat.length];
+
+    for (SimulationResult result : results) {
+      games += result.games;
+      turns += result.turns;
+      unfinished += result.unfinishedGames;
+      ladders += result.ladders;
+      snakes += result.snakes;
+      if (result.games > result.unfinishedGames) {
+        minTurns = Math.min(minTurns, result.minTurns);
+        maxTurns = Math.max(maxTurns, result.maxTurns);
+      }
+      for (int i = 0; i < wins.length; i++) {
+        wins[i] += result.winsBySeat[i];
+      }
+    }
+    if (minTurns == Integer.MAX_VALUE) {
+      minTurns = 0;
+    }
+    return new SimulationResult(games, turns, wins, unfinished,
+        minTurns, maxTurns, ladders, snakes, elapsedNanos);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d games, %d turns in %.1f ms (%.0f games/s, %.0f turns/s)%n"
+            + "average turns: %.2f, min: %d, max: %d, unfinished: %d%n"
+            + "ladders: %d, snakes: %d, wins by seat: %s",
+        games, turns, elapsedNanos / 1e6, getGamesPerSecond(), getTurnsPerSecond(),
+        getAverageTurns(), minTurns, maxTurns, unfinishedGames,
+        ladders, snakes, Arrays.toString(winsBySeat));
+  }
+}
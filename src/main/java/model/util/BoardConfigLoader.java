@@ -1,8 +1,16 @@
 package model.util;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -10,12 +18,17 @@ import java.util.logging.Logger;
 /**
  * This class is responsible for loading the board configuration from a JSON file.
  * It reads the file and creates a map of tile IDs with their corresponding actions.
+ * Every call reads the file again; use BoardConfigRegistry to load each file only once.
  */
 public class BoardConfigLoader {
 
   private static final Logger logger =
       Logger.getLogger(BoardConfigLoader.class.getName());
 
+  // A mapper is thread-safe once configured, so one is shared for reading and writing, and its
+  // factory by QuestionLoader
+  static final ObjectMapper MAPPER = new ObjectMapper();
+
   /**
    * Loads the board configuration from a JSON file.
    *
@@ -23,37 +36,154 @@ public class BoardConfigLoader {
    * @return a map of tile IDs with their corresponding actions
    */
   public static Map<Integer, TileConfig> loadConfig(String fileName) {
-    Map<Integer, TileConfig> actions = new HashMap<>();
-
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      InputStream inputStream = BoardConfigLoader.class
-          .getClassLoader()
-          .getResourceAsStream(fileName);
-      JsonNode root = mapper.readTree(inputStream);
-
-      // All tile-based actions (ladders, snakes, back-to-start)
-      for (JsonNode tileNode : root.path("tiles")) {
-        int from = tileNode.get("id").asInt();
-        JsonNode actionNode = tileNode.get("action");
-        int to = actionNode.get("destinationTileId").asInt();
-        String message = actionNode.get("description").asText();
-        actions.put(from, new TileConfig(to, message));
-      }
-
+      return readResource(fileName);
     } catch (Exception e) {
       logger.log(Level.SEVERE, "Error loading board configuration", e);
     }
 
+    return new HashMap<>();
+  }
+
+  /**
+   * Reads a board configuration from the classpath.
+   *
+   * @param fileName the name of the JSON file
+   * @return a map of tile IDs with their corresponding actions
+   * @throws IOException if the file is missing or cannot be read
+   */
+  static Map<Integer, TileConfig> readResource(String fileName) throws IOException {
+    try (InputStream inputStream = BoardConfigLoader.class
+        .getClassLoader()
+        .getResourceAsStream(fileName)) {
+      if (inputStream == null) {
+        throw new FileNotFoundException("Board configuration not found: " + fileName);
+      }
+      return readConfig(inputStream);
+    }
+  }
+
+  /**
+   * Reads a board configuration from a stream of JSON. The JSON is read token by token and
+   * each tile action is added as soon as it has been read, so the document is never held in
+   * memory as a tree.
+   *
+   * @param inputStream the JSON to read
+   * @return a map of tile IDs with their corresponding actions
+   * @throws IOException if the JSON cannot be read or a tile is missing its ID or destination
+   */
+  public static Map<Integer, TileConfig> readConfig(InputStream inputStream) throws IOException {
+    Map<Integer, TileConfig> actions = new HashMap<>();
+    long start = System.nanoTime();
+
+    try (JsonParser parser = MAPPER.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Board configuration must be a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (field.equals("tiles") && value == JsonToken.START_ARRAY) {
+          // All tile-based actions (ladders, snakes, back-to-start)
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            readTile(parser, actions);
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      long bytes = parser.currentLocation().getByteOffset();
+      long elapsed = System.nanoTime() - start;
+      logger.log(Level.FINE, () -> String.format(
+          "Parsed %d tile actions from %d bytes in %.2f ms (%.1f MB/s)",
+          actions.size(), bytes, elapsed / 1e6, elapsed == 0 ? 0 : bytes * 1e3 / elapsed));
+    }
     return actions;
   }
 
   /**
-   * Static inner class to represent the configuration of a tile.
+   * Reads one tile object, with the parser on its START_OBJECT token.
+   */
+  private static void readTile(JsonParser parser, Map<Integer, TileConfig> actions)
+      throws IOException {
+    int from = -1;
+    int to = -1;
+    String message = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if (field.equals("id")) {
+        from = parser.getValueAsInt();
+      } else if (field.equals("action") && parser.currentToken() == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String actionField = parser.currentName();
+          parser.nextToken();
+          if (actionField.equals("destinationTileId")) {
+            to = parser.getValueAsInt();
+          } else if (actionField.equals("description")) {
+            message = parser.getValueAsString();
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (from < 0 || to < 0) {
+      throw new JsonParseException(parser, "Tile is missing its ID or destination");
+    }
+    actions.put(from, new TileConfig(to, message));
+  }
+
+  /**
+   * Writes a board configuration to a JSON file in the same format it is loaded from.
+   * Tiles leading to tile 1 are written as back-to-start actions, tiles leading up as
+   * ladders, and tiles leading down as snakes.
+   *
+   * @param config the tile actions, by the ID of the tile they start on
+   * @param file   the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void writeConfig(Map<Integer, TileConfig> config, Path file) throws IOException {
+    ObjectNode root = MAPPER.createObjectNode();
+    ArrayNode tiles = root.putArray("tiles");
+
+    for (Map.Entry<Integer, TileConfig> entry : new TreeMap<>(config).entrySet()) {
+      int from = entry.getKey();
+      TileConfig cfg = entry.getValue();
+      String type;
+      if (cfg.to == 1) {
+        type = "BackToStartAction";
+      } else if (cfg.to > from) {
+        type = "LadderAction";
+      } else {
+        type = "SnakeAction";
+      }
+
+      ObjectNode tileNode = tiles.addObject();
+      tileNode.put("id", from);
+      ObjectNode actionNode = tileNode.putObject("action");
+      actionNode.put("type", type);
+      actionNode.put("destinationTileId", cfg.to);
+      actionNode.put("description", cfg.message);
+    }
+
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+  }
+
+  /**
+   * Static inner class to represent the configuration of a tile. It cannot be changed, so
+   * loaded configurations can be shared.
    */
   public static class TileConfig {
-    public int to;
-    public String message;
+    public final int to;
+    public final String message;
 
     /**
      * Constructor for TileConfig.
@@ -0,0 +1,81 @@
+package model.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import model.util.BoardConfigLoader.TileConfig;
+
+/**
+ * Cache of parsed board configurations.
+ *
+ * <p>Each configuration file is read and parsed once, the first time it is asked for, and kept as
+ * a read-only map that can be shared between boards, views and threads. Files that cannot be
+ * read are not cached, so they are tried again on the next call. After a configuration file has
+ * changed, {@link #invalidate(String)} makes the next call read it again.</p>
+ */
+public class BoardConfigRegistry {
+
+  private static final Logger logger =
+      Logger.getLogger(BoardConfigRegistry.class.getName());
+
+  private static final Map<String, Map<Integer, TileConfig>> configs = new ConcurrentHashMap<>();
+
+  private BoardConfigRegistry() {
+  }
+
+  /**
+   * Returns the board configuration in the given file, reading it if it is not cached.
+   *
+   * @param fileName the name of the JSON file on the classpath
+   * @return a read-only map of tile IDs with their corresponding actions, or an empty map if the
+   *         file cannot be read
+   */
+  public static Map<Integer, TileConfig> get(String fileName) {
+    try {
+      return configs.computeIfAbsent(fileName, BoardConfigRegistry::read);
+    } catch (UncheckedIOException e) {
+      logger.log(Level.SEVERE, "Error loading board configuration", e.getCause());
+      return Map.of();
+    }
+  }
+
+  private static Map<Integer, TileConfig> read(String fileName) {
+    try {
+      return Collections.unmodifiableMap(
+          new HashMap<>(BoardConfigLoader.readResource(fileName)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Checks if the given configuration file is cached.
+   *
+   * @param fileName the name of the JSON file
+   * @return true if the configuration has been read and not invalidated
+   */
+  public static boolean isCached(String fileName) {
+    return configs.containsKey(fileName);
+  }
+
+  /**
+   * Removes a configuration from the cache, so the next call reads the file again.
+   *
+   * @param fileName the name of the JSON file
+   */
+  public static void invalidate(String fileName) {
+    configs.remove(fileName);
+  }
+
+  /**
+   * Removes every configuration from the cache.
+   */
+  public static void invalidateAll() {
+    configs.clear();
+  }
+}
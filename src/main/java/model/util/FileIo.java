@@ -0,0 +1,57 @@
+package model.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+
+/**
+ * File helpers shared by the classes that save the game, the turn journal and the players.
+ */
+public final class FileIo {
+
+  /**
+   * Runs each task on a new virtual thread, for file work that must not hold up the JavaFX
+   * application thread.
+   */
+  public static final Executor BACKGROUND = task ->
+      Thread.ofVirtual().name("file-io").start(task);
+
+  private FileIo() {
+  }
+
+  /**
+   * Replaces a file with new content. The content is written to a temporary file next to it and
+   * forced to disk, and the temporary file is then moved over the file, so a crash leaves either
+   * the old or the new file and never half of one.
+   *
+   * @param file    the file to write
+   * @param content the bytes to write, from the position to the limit of the buffer
+   * @throws IOException if the file cannot be written
+   */
+  public static void writeAtomically(Path file, ByteBuffer content) throws IOException {
+    Path absolute = file.toAbsolutePath();
+    Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName() + ".", ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        while (content.hasRemaining()) {
+          channel.write(content);
+        }
+        channel.force(true);
+      }
+      try {
+        Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
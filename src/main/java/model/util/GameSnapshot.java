@@ -0,0 +1,336 @@
+package model.util;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import model.entity.Board;
+import model.entity.BoardGame;
+import model.entity.Dice;
+import model.entity.Player;
+import model.exception.InvalidSnapshotException;
+
+/**
+ * Saves a game in progress to a small binary snapshot, and restores a game from one.
+ *
+ * <p>A snapshot holds the game type, a configuration ID chosen by the caller, the seed of the
+ * dice, the last roll, the player whose turn it is, and the name, piece, tile and score of every
+ * player. Numbers are written as variable length integers, so a tile or score takes one or two
+ * bytes, and a snapshot of a normal game is well under a hundred bytes. Snapshots are written
+ * into and read from a {@link ByteBuffer} without any copy in between.</p>
+ *
+ * <p>The random generator of the dice cannot be read back, so writing a snapshot reseeds the dice
+ * with a seed drawn from their own generator, and stores that seed. A restored game therefore
+ * rolls exactly the same numbers as the game that was saved.</p>
+ *
+ * <p>Version 1 of the format is:</p>
+ * <pre>
+ * 'B' 'G' version           3 bytes
+ * game type                 1 byte, 0 for Snakes and Ladders and 1 for quiz
+ * configuration ID          string
+ * dice seed                 8 bytes
+ * number of dice, sides     varint, varint
+ * last roll                 varint for each die, 0 if not rolled
+ * number of players         varint
+ * current player            varint index in the player list
+ * each player               name string, piece string, varint tile, zigzag varint score
+ * </pre>
+ * <p>A string is a varint length followed by that many bytes of UTF-8.</p>
+ */
+public final class GameSnapshot {
+
+  /** The version of the format written by this class. */
+  public static final int VERSION = 1;
+
+  /** The largest snapshot file that is read. */
+  public static final int MAX_FILE_SIZE = 64 * 1024;
+
+  /** The highest number of sides of a die in a snapshot that is restored. */
+  public static final int MAX_SIDES = 100;
+
+  private static final byte MAGIC_1 = 'B';
+  private static final byte MAGIC_2 = 'G';
+  private static final List<String> GAME_TYPES = List.of("snakesandladders", "quiz");
+
+  private GameSnapshot() {
+  }
+
+  /**
+   * Writes a snapshot of the game at the position of the buffer, and reseeds the dice with the
+   * seed that is written.
+   *
+   * @param game     the game to save
+   * @param configId what the caller needs to set the game up again, e.g. a configuration file,
+   *                 or null for none
+   * @param out      the buffer to write to
+   * @throws BufferOverflowException if the snapshot does not fit in the buffer
+   * @throws InvalidSnapshotException if the game cannot be saved
+   */
+  public static void write(BoardGame game, String configId, ByteBuffer out) {
+    int type = GAME_TYPES.indexOf(game.getGameType());
+    if (type < 0 || game.getDice() == null) {
+      throw new InvalidSnapshotException("Only games made by BoardGameFactory can be saved");
+    }
+    List<Player> players = game.getPlayers();
+    Dice dice = game.getDice();
+    long seed = dice.getRandom().nextLong();
+    dice.setRandom(new SplittableRandom(seed));
+
+    out.put(MAGIC_1).put(MAGIC_2).put((byte) VERSION).put((byte) type);
+    putString(out, configId != null ? configId : "");
+    out.putLong(seed);
+    putVarint(out, dice.getNumberOfDice());
+    putVarint(out, dice.getSides());
+    for (int i = 0; i < dice.getNumberOfDice(); i++) {
+      putVarint(out, dice.getValue(i));
+    }
+    putVarint(out, players.size());
+    putVarint(out, Math.max(0, players.indexOf(game.getCurrentplayer())));
+    for (Player player : players) {
+      putString(out, player.getName());
+      putString(out, player.getPiece());
+      putVarint(out, player.getCurrentTile().getTileId());
+      putVarint(out, (player.getScore() << 1) ^ (player.getScore() >> 31));
+    }
+  }
+
+  /**
+   * Restores a game from the snapshot at the position of the buffer. The snapshot is read in
+   * full and checked before the game is changed, so the game is left as it was if the snapshot
+   * is invalid. The players of the game are replaced by the saved players, and a TURN_CHANGED
+   * event is sent for the saved current player.
+   *
+   * @param in   the buffer to read from
+   * @param game the game to restore into, of the same game type as the saved game
+   * @return the configuration ID stored with the snapshot, or null if there is none
+   * @throws InvalidSnapshotException if the buffer does not hold a valid snapshot for this game
+   */
+  public static String restore(ByteBuffer in, BoardGame game) {
+    try {
+      return read(in, game);
+    } catch (BufferUnderflowException e) {
+      throw new InvalidSnapshotException("Saved game is cut short");
+    }
+  }
+
+  private static String read(ByteBuffer in, BoardGame game) {
+    if (in.get() != MAGIC_1 || in.get() != MAGIC_2) {
+      throw new InvalidSnapshotException("Not a saved game");
+    }
+    int version = in.get();
+    if (version != VERSION) {
+      throw new InvalidSnapshotException("Unsupported saved game version: " + version);
+    }
+    int type = in.get();
+    if (type < 0 || type >= GAME_TYPES.size()
+        || !GAME_TYPES.get(type).equals(game.getGameType())) {
+      throw new InvalidSnapshotException("Saved game is not a game of type " + game.getGameType());
+    }
+    String configId = getString(in);
+    long seed = in.getLong();
+
+    int numberOfDice = getVarint(in);
+    int sides = getVarint(in);
+    if (numberOfDice < 1 || numberOfDice > in.remaining() || sides < 1 || sides > MAX_SIDES) {
+      throw new InvalidSnapshotException("Invalid dice in saved game");
+    }
+    int[] values = new int[numberOfDice];
+    for (int i = 0; i < numberOfDice; i++) {
+      values[i] = getVarint(in);
+      boolean valid = values[0] == 0 ? values[i] == 0 : values[i] >= 1 && values[i] <= sides;
+      if (!valid) {
+        throw new InvalidSnapshotException("Invalid dice value in saved game: " + values[i]);
+      }
+    }
+
+    Board board = game.getBoard();
+    int playerCount = getVarint(in);
+    int current = getVarint(in);
+    if (playerCount < 1 || playerCount > in.remaining()
+        || current < 0 || current >= playerCount) {
+      throw new InvalidSnapshotException("Invalid players in saved game");
+    }
+    List<Player> players = new ArrayList<>(playerCount);
+    for (int i = 0; i < playerCount; i++) {
+      Player player = new Player(getString(in), board, getString(in));
+      int tileId = getVarint(in);
+      int zigzag = getVarint(in);
+      if (tileId < 1 || tileId > board.getTileCount()) {
+        throw new InvalidSnapshotException("Invalid tile in saved game: " + tileId);
+      }
+      player.setCurrentTile(board.getTile(tileId));
+      player.setScore((zigzag >>> 1) ^ -(zigzag & 1));
+      players.add(player);
+    }
+
+    Dice dice = game.getDice();
+    if (dice == null || dice.getNumberOfDice() != numberOfDice || dice.getSides() != sides) {
+      game.createDice(numberOfDice);
+      dice = game.getDice();
+      dice.setSides(sides);
+    }
+    dice.setDiceValues(values);
+    dice.setRandom(new SplittableRandom(seed));
+    game.setPlayers(players);
+    game.setCurrentPlayer(players.get(current));
+    return configId.isEmpty() ? null : configId;
+  }
+
+  /**
+   * Writes a snapshot of the game into a new buffer of the right size.
+   *
+   * @param game     the game to save
+   * @param configId what the caller needs to set the game up again, or null for none
+   * @return the snapshot, from the position to the limit of the buffer
+   * @throws InvalidSnapshotException if the game cannot be saved
+   */
+  public static ByteBuffer encode(BoardGame game, String configId) {
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    while (true) {
+      try {
+        write(game, configId, buffer);
+        return buffer.flip();
+      } catch (BufferOverflowException e) {
+        buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+      }
+    }
+  }
+
+  /**
+   * Writes a snapshot of the game to a file. The snapshot is written to a temporary file next to
+   * it first, which is then moved over the file, so an old save is never left half written.
+   *
+   * @param game     the game to save
+   * @param configId what the caller needs to set the game up again, or null for none
+   * @param file     the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void save(BoardGame game, String configId, Path file) throws IOException {
+    FileIo.writeAtomically(file, encode(game, configId));
+  }
+
+  /**
+   * Takes a snapshot of the game on the calling thread, and writes it to a file on a background
+   * thread, so the game can go on at once.
+   *
+   * @param game     the game to save
+   * @param configId what the caller needs to set the game up again, or null for none
+   * @param file     the file to write
+   * @return a future that completes when the file is written, or with the IOException or
+   *         InvalidSnapshotException that stopped it
+   */
+  public static CompletableFuture<Void> saveInBackground(BoardGame game, String configId,
+      Path file) {
+    ByteBuffer snapshot;
+    try {
+      snapshot = encode(game, configId);
+    } catch (InvalidSnapshotException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return CompletableFuture.runAsync(() -> {
+      try {
+        FileIo.writeAtomically(file, snapshot);
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    }, FileIo.BACKGROUND);
+  }
+
+  /**
+   * Restores a game from a snapshot file.
+   *
+   * @param file the file to read
+   * @param game the game to restore into, of the same game type as the saved game
+   * @return the configuration ID stored with the snapshot, or null if there is none
+   * @throws IOException if the file is missing or cannot be read
+   * @throws InvalidSnapshotException if the file does not hold a valid snapshot for this game
+   */
+  public static String load(Path file, BoardGame game) throws IOException {
+    return restore(read(file), game);
+  }
+
+  /**
+   * Reads a snapshot file on a background thread. The snapshot is then restored with
+   * {@link #restore(ByteBuffer, BoardGame)} on the thread the game is played on.
+   *
+   * @param file the file to read
+   * @return a future with the snapshot, or with the IOException or InvalidSnapshotException that
+   *         stopped it
+   */
+  public static CompletableFuture<ByteBuffer> readInBackground(Path file) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return read(file);
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    }, FileIo.BACKGROUND);
+  }
+
+  private static ByteBuffer read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > MAX_FILE_SIZE) {
+        throw new InvalidSnapshotException("Saved game is too large: " + size + " bytes");
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // Keep reading until the buffer is full
+      }
+      return buffer.flip();
+    }
+  }
+
+  static void putVarint(ByteBuffer out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.put((byte) value);
+  }
+
+  static int getVarint(ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = in.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new InvalidSnapshotException("Invalid number in saved game");
+  }
+
+  private static void putString(ByteBuffer out, String text) {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    putVarint(out, bytes.length);
+    out.put(bytes);
+  }
+
+  private static String getString(ByteBuffer in) {
+    int length = getVarint(in);
+    if (length < 0 || length > in.remaining()) {
+      throw new InvalidSnapshotException("Invalid text in saved game");
+    }
+    String text;
+    if (in.hasArray()) {
+      text = new String(in.array(), in.arrayOffset() + in.position(), length,
+          StandardCharsets.UTF_8);
+      in.position(in.position() + length);
+    } else {
+      byte[] bytes = new byte[length];
+      in.get(bytes);
+      text = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return text;
+  }
+}
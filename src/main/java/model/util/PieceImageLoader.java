@@ -2,17 +2,66 @@ package model.util;
 
 import javafx.scene.image.Image;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
- * Utility class to load and cache images for game pieces.
- * Images are loaded from the resources directory and cached for reuse.
+ * Utility class to load and cache images for game pieces and dice faces.
+ *
+ * <p>Images are loaded from the resources directory and cached for reuse. The cache can be used
+ * from any thread, decodes each image only once even when several threads ask for it at the same
+ * time, and holds at most {@link #MAX_CACHED_IMAGES} images, dropping the image that was used
+ * least recently when it is full. Images can be decoded at the size
+ * they are shown in, which is sharper and uses less memory than scaling a full size image.
+ * {@link #preload()} decodes all pieces and dice faces on a background thread, so the first
+ * game screen does not have to wait for them.</p>
  */
 public class PieceImageLoader {
-  private static final String PATH = "/images/";
-  private static final Map<String, Image> cache = new HashMap<>();
+  private static final String PATH = "/Images/";
+  private static final String DICE_PATH = "/icons/dice";
+
+  /** The pieces players can choose from. */
+  public static final List<String> PIECES =
+      List.of("Car", "Hat", "Dog", "Ship", "Plane", "Crown");
+
+  /** The size pieces are shown in on player lists and the quiz board. */
+  public static final int SMALL_SIZE = 24;
+
+  /** The size pieces are shown in on the Snakes and Ladders board. */
+  public static final int BOARD_SIZE = 30;
+
+  /** The size dice are shown in, and pieces in larger previews. */
+  public static final int LARGE_SIZE = 64;
+
+  /** The highest number of images kept in the cache. */
+  public static final int MAX_CACHED_IMAGES = 64;
+
+  private static final Logger logger = Logger.getLogger(PieceImageLoader.class.getName());
+
+  /** Cached images in order of use, guarded by its own lock. */
+  private static final Map<String, CompletableFuture<Image>> cache =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Image>> eldest) {
+          return size() > MAX_CACHED_IMAGES;
+        }
+      };
+  private static final LongAdder hits = new LongAdder();
+  private static final LongAdder misses = new LongAdder();
+  private static final LongAdder loadNanos = new LongAdder();
+  private static final Executor preloader = task ->
+      Thread.ofPlatform().daemon().name("image-preloader").start(task);
+
+  private PieceImageLoader() {
+  }
 
   /**
    * Loads an image for a given piece type.
@@ -22,19 +71,156 @@ public class PieceImageLoader {
    * @return the loaded Image object, or null if the image could not be found
    */
   public static Image get(String pieceType) {
-    String key = pieceType.toLowerCase();
-    if (!cache.containsKey(key)) {
-      String resource = PATH + key + ".png";
-      InputStream is = PieceImageLoader.class.getResourceAsStream(resource);
+    return get(pieceType, 0);
+  }
+
+  /**
+   * Loads an image for a given piece type, decoded at the given size.
+   * The image is cached for future use.
+   *
+   * @param pieceType the type of the game piece (e.g., "car", "hat", "dog")
+   * @param size      the width and height to fit the image in, or 0 for full size
+   * @return the loaded Image object, or null if the image could not be found
+   */
+  public static Image get(String pieceType, int size) {
+    return load(PATH + pieceType.toLowerCase() + ".png", size);
+  }
+
+  /**
+   * Loads the image of a dice face, decoded at the given size.
+   * The image is cached for future use.
+   *
+   * @param face the face, starting at 1
+   * @param size the width and height to fit the image in, or 0 for full size
+   * @return the loaded Image object, or null if there is no image for the face
+   */
+  public static Image getDiceFace(int face, int size) {
+    return load(DICE_PATH + face + ".png", size);
+  }
+
+  private static Image load(String resource, int size) {
+    String key = resource + "@" + size;
+    CompletableFuture<Image> loading = new CompletableFuture<>();
+    CompletableFuture<Image> cached;
+    synchronized (cache) {
+      cached = cache.putIfAbsent(key, loading);
+    }
+    if (cached != null) {
+      // Cached, or another thread is already decoding this image
+      hits.increment();
+      return cached.join();
+    }
+    misses.increment();
+
+    long start = System.nanoTime();
+    try {
+      Image image = decode(resource, size);
+      loading.complete(image);
+      return image;
+    } catch (Error e) {
+      // Threads waiting for the image must not wait forever, and the next caller tries again
+      synchronized (cache) {
+        cache.remove(key, loading);
+      }
+      loading.completeExceptionally(e);
+      throw e;
+    } finally {
+      loadNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  private static Image decode(String resource, int size) {
+    try (InputStream is = PieceImageLoader.class.getResourceAsStream(resource)) {
       if (is == null) {
-        System.err.println("Image not found: " + resource);
+        logger.warning("Image not found: " + resource);
         return null;
       }
-      Image img = new Image(is);
-      cache.put(key, img);
+      return size > 0 ? new Image(is, size, size, true, true) : new Image(is);
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.WARNING, "Error loading image " + resource, e);
+      return null;
+    }
+  }
+
+  /**
+   * Decodes every piece in the small, board and large size and every dice face in the large size on a
+   * background thread.
+   *
+   * @return a future that completes when all images are cached
+   */
+  public static CompletableFuture<Void> preload() {
+    return CompletableFuture.runAsync(() -> {
+      for (String piece : PIECES) {
+        get(piece, SMALL_SIZE);
+        get(piece, BOARD_SIZE);
+        get(piece, LARGE_SIZE);
+      }
+      for (int face = 1; face <= 6; face++) {
+        getDiceFace(face, LARGE_SIZE);
+      }
+      logger.fine(() -> "Preloaded images: " + statistics());
+    }, preloader);
+  }
+
+  /**
+   * Returns how many images were found in the cache.
+   *
+   * @return the number of cache hits
+   */
+  public static long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns how many images had to be loaded.
+   *
+   * @return the number of cache misses
+   */
+  public static long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the total time spent loading and decoding images.
+   *
+   * @return the load time in nanoseconds
+   */
+  public static long getLoadNanos() {
+    return loadNanos.sum();
+  }
+
+  /**
+   * Returns the number of images in the cache, including missing images.
+   *
+   * @return the number of cached entries
+   */
+  public static int getCachedCount() {
+    synchronized (cache) {
+      return cache.size();
     }
-    return cache.get(key);
   }
 
+  /**
+   * Returns a summary of the cache statistics.
+   *
+   * @return the hits, misses and load time as text
+   */
+  public static String statistics() {
+    long loads = getMissCount();
+    return String.format("%d hits, %d misses, %d cached, %.2f ms loading (%.2f ms per image)",
+        getHitCount(), loads, getCachedCount(), getLoadNanos() / 1e6,
+        loads == 0 ? 0 : getLoadNanos() / 1e6 / loads);
+  }
 
+  /**
+   * Removes all images from the cache and resets the statistics.
+   */
+  public static void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+    hits.reset();
+    misses.reset();
+    loadNanos.reset();
+  }
 }
@@ -0,0 +1,132 @@
+package model.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import model.entity.Questions;
+
+/**
+ * This class is responsible for loading quiz questions from a JSON file.
+ *
+ * <p>The file is a JSON array of questions. It is read token by token, and each question is
+ * handed on as soon as it has been read, so large question banks are never held in memory as a
+ * tree or a list.</p>
+ */
+public class QuestionLoader {
+
+  private static final Logger logger =
+      Logger.getLogger(QuestionLoader.class.getName());
+
+  // The same thread-safe factory reads the board configurations
+  private static final JsonFactory FACTORY = BoardConfigLoader.MAPPER.getFactory();
+
+  private QuestionLoader() {
+  }
+
+  /**
+   * Loads the questions in a JSON file on the classpath.
+   *
+   * @param fileName the name of the JSON file
+   * @return the questions by the ID of the tile they are on, in file order
+   * @throws IOException if the file is missing or cannot be read
+   */
+  public static Map<Integer, Questions> loadQuestions(String fileName) throws IOException {
+    try (InputStream inputStream = QuestionLoader.class
+        .getClassLoader()
+        .getResourceAsStream(fileName)) {
+      if (inputStream == null) {
+        throw new FileNotFoundException("Could not find file: " + fileName);
+      }
+      return readQuestions(inputStream);
+    }
+  }
+
+  /**
+   * Reads questions from a stream of JSON.
+   *
+   * @param inputStream the JSON to read
+   * @return the questions by the ID of the tile they are on, in file order
+   * @throws IOException if the JSON cannot be read
+   */
+  public static Map<Integer, Questions> readQuestions(InputStream inputStream)
+      throws IOException {
+    Map<Integer, Questions> questions = new LinkedHashMap<>();
+    readQuestions(inputStream, q -> questions.put(q.getTileId(), q));
+    return questions;
+  }
+
+  /**
+   * Reads questions from a stream of JSON and hands each one to the consumer as soon as it has
+   * been read.
+   *
+   * @param inputStream the JSON to read
+   * @param consumer    receives each question
+   * @return the number of questions read
+   * @throws IOException if the JSON cannot be read or a question is missing its tile ID
+   */
+  public static int readQuestions(InputStream inputStream, Consumer<Questions> consumer)
+      throws IOException {
+    long start = System.nanoTime();
+    int count = 0;
+
+    try (JsonParser parser = FACTORY.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new JsonParseException(parser, "Questions must be a JSON array");
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        consumer.accept(readQuestion(parser));
+        count++;
+      }
+
+      long bytes = parser.currentLocation().getByteOffset();
+      long elapsed = System.nanoTime() - start;
+      int read = count;
+      logger.log(Level.FINE, () -> String.format(
+          "Parsed %d questions from %d bytes in %.2f ms (%.0f questions/s)",
+          read, bytes, elapsed / 1e6, elapsed == 0 ? 0 : read * 1e9 / elapsed));
+    }
+    return count;
+  }
+
+  /**
+   * Reads one question object, with the parser on its START_OBJECT token.
+   */
+  private static Questions readQuestion(JsonParser parser) throws IOException {
+    int tileId = -1;
+    String question = null;
+    List<String> options = new ArrayList<>(4);
+    String answer = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (field.equals("tileId")) {
+        tileId = parser.getValueAsInt(-1);
+      } else if (field.equals("question")) {
+        question = parser.getValueAsString();
+      } else if (field.equals("answer")) {
+        answer = parser.getValueAsString();
+      } else if (field.equals("options") && value == JsonToken.START_ARRAY) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          options.add(parser.getValueAsString());
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (tileId < 0) {
+      throw new JsonParseException(parser, "Question is missing its tile ID");
+    }
+    return new Questions(tileId, question, options, answer);
+  }
+}
@@ -0,0 +1,68 @@
+package model.util;
+
+import java.util.random.RandomGenerator;
+import model.exception.InvalidDiceRollException;
+
+/**
+ * A random generator that returns a fixed sequence of die faces instead of random values.
+ * Dice rolled with it show the scripted faces in order, starting over when the sequence
+ * runs out. Used to replay games and to get deterministic rolls in tests.
+ */
+public class ScriptedRandom implements RandomGenerator {
+
+  private final int[] faces;
+  private int index;
+
+  /**
+   * Constructor for ScriptedRandom.
+   *
+   * @param faces the die faces to return, in order
+   * @throws InvalidDiceRollException if no faces are given or a face is less than 1
+   */
+  public ScriptedRandom(int... faces) {
+    if (faces.length == 0) {
+      throw new InvalidDiceRollException("At least one scripted face is required");
+    }
+    for (int face : faces) {
+      if (face < 1) {
+        throw new InvalidDiceRollException("Scripted faces must be greater than 0");
+      }
+    }
+    this.faces = faces.clone();
+    this.index = 0;
+  }
+
+  /**
+   * Returns the next scripted face as a zero-based value, so that a die with the given
+   * number of sides shows the scripted face.
+   *
+   * @param bound the number of sides on the die
+   * @return the next face minus one
+   * @throws InvalidDiceRollException if the face is larger than the number of sides
+   */
+  @Override
+  public int nextInt(int bound) {
+    int face = nextFace();
+    if (face > bound) {
+      throw new InvalidDiceRollException(
+          "Scripted face " + face + " is larger than " + bound + " sides");
+    }
+    return face - 1;
+  }
+
+  /**
+   * Returns the next scripted face as a zero-based value.
+   *
+   * @return the next face minus one
+   */
+  @Override
+  public long nextLong() {
+    return nextFace() - 1;
+  }
+
+  private int nextFace() {
+    int face = faces[index];
+    index = index + 1 == faces.length ? 0 : index + 1;
+    return face;
+  }
+}
@@ -0,0 +1,514 @@
+package model.util;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import model.entity.BoardGame;
+import model.entity.GameEvent;
+import model.entity.Player;
+import model.exception.InvalidSnapshotException;
+
+/**
+ * A write-ahead journal of a game in progress, so a game can be recovered after the power is
+ * lost.
+ *
+ * <p>The journal file starts with a {@link GameSnapshot} of the game, followed by one record for
+ * every roll, move, answer and change of turn since then. Recovering the game restores the
+ * snapshot and applies the records on top of it. Every {@link #CHECKPOINT_INTERVAL} records, a new
+ * snapshot replaces the whole file, so the journal never grows long.</p>
+ *
+ * <p>Records are built on the calling thread, which is never held up by the disk. A background
+ * thread writes them, and writes all records that are waiting at the same time before forcing
+ * the file to disk once for all of them. A new snapshot is written to a temporary file that is
+ * then moved over the journal, so a crash leaves either the old or the new journal. Each record
+ * ends with a checksum, and recovery stops at the first record that was not written in full.
+ * The writer keeps the last snapshot and the records since then in memory, so if writing fails or
+ * the file is removed, the next batch writes the whole journal again.</p>
+ *
+ * <p>A record is a varint length, the record and a CRC32C of the record. A snapshot record is the
+ * byte 0 followed by the snapshot. An event record is the ordinal of the event type plus one, the
+ * index of the player, the tile the player is on after the event and the value of the event, as
+ * varints, and for a roll the number of dice and their values.</p>
+ */
+public class TurnJournal implements AutoCloseable {
+
+  /** The number of event records after which the journal is started again from a snapshot. */
+  public static final int CHECKPOINT_INTERVAL = 500;
+
+  /** The largest journal file that is read. */
+  public static final int MAX_FILE_SIZE = 1024 * 1024;
+
+  private static final Logger logger = Logger.getLogger(TurnJournal.class.getName());
+
+  private static final int SNAPSHOT = 0;
+
+  /** Journals whose writer has not stopped yet. */
+  private static final Set<TurnJournal> open = ConcurrentHashMap.newKeySet();
+
+  private final Path file;
+  private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+  private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+  private ByteBuffer scratch = ByteBuffer.allocate(256);
+  private String configId;
+  private int recordsSinceCheckpoint;
+  private boolean closed;
+
+  // Only used by the writer thread
+  private FileChannel channel;
+  private byte[] snapshot;
+  private final List<byte[]> sinceSnapshot = new ArrayList<>();
+  private boolean fileComplete;
+
+  /**
+   * Constructor for TurnJournal. Starts the background writer, which is stopped by
+   * {@link #close()}. Nothing is written until the first {@link #checkpoint(BoardGame, String)}.
+   * The writer is a daemon thread, so the application must call {@link #closeAll(long, TimeUnit)}
+   * before it exits.
+   *
+   * @param file the journal file
+   */
+  public TurnJournal(Path file) {
+    this.file = file.toAbsolutePath();
+    open.add(this);
+    Thread.ofVirtual().name("turn-journal").start(this::writeLoop);
+  }
+
+  /**
+   * Starts the journal again from a snapshot of the game. The snapshot replaces every record
+   * written so far.
+   *
+   * @param game     the game to save
+   * @param configId what is needed to set the game up again, as in
+   *                 {@link GameSnapshot#write(BoardGame, String, java.nio.ByteBuffer)}
+   */
+  public void checkpoint(BoardGame game, String configId) {
+    this.configId = configId;
+    while (true) {
+      try {
+        scratch.clear();
+        scratch.put((byte) SNAPSHOT);
+        GameSnapshot.write(game, configId, scratch);
+        break;
+      } catch (BufferOverflowException e) {
+        scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+      }
+    }
+    recordsSinceCheckpoint = 0;
+    submit(Kind.REPLACE, frame(scratch));
+  }
+
+  /**
+   * Adds a record of a game event to the journal. Events that do not change the game, such as a
+   * question being asked, are not recorded. A new snapshot is taken once
+   * {@link #CHECKPOINT_INTERVAL} events have been recorded.
+   *
+   * @param game  the game the event happened in
+   * @param event the event
+   */
+  public void append(BoardGame game, GameEvent event) {
+    GameEvent.Type type = event.getType();
+    if (type == GameEvent.Type.QUESTION || type == GameEvent.Type.WON) {
+      return;
+    }
+    scratch.clear();
+    scratch.put((byte) (type.ordinal() + 1));
+    GameSnapshot.putVarint(scratch, game.getPlayers().indexOf(event.getPlayer()));
+    GameSnapshot.putVarint(scratch, event.getToTileId());
+    GameSnapshot.putVarint(scratch, event.getValue());
+    if (type == GameEvent.Type.ROLLED) {
+      int[] values = new int[game.getDice().getNumberOfDice()];
+      game.getDice().getDiceValues(values);
+      GameSnapshot.putVarint(scratch, values.length);
+      for (int value : values) {
+        GameSnapshot.putVarint(scratch, value);
+      }
+    }
+    submit(Kind.APPEND, frame(scratch));
+
+    if (++recordsSinceCheckpoint >= CHECKPOINT_INTERVAL) {
+      checkpoint(game, configId);
+    }
+  }
+
+  /**
+   * Removes the journal file, e.g. when the game is over and there is nothing to recover.
+   */
+  public void clear() {
+    recordsSinceCheckpoint = 0;
+    submit(Kind.CLEAR, null);
+  }
+
+  /**
+   * Returns a future that completes when everything added to the journal so far is on disk.
+   *
+   * @return the future, completed on the writer thread
+   */
+  public CompletableFuture<Void> sync() {
+    Command command = new Command(Kind.SYNC, null, new CompletableFuture<>());
+    if (!offer(command)) {
+      command.done().complete(null);
+    }
+    return command.done();
+  }
+
+  /**
+   * Stops the background writer once everything added so far has been written. Returns at once.
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      submit(Kind.STOP, null);
+      closed = true;
+    }
+  }
+
+  /**
+   * Closes every journal that is still open, and waits until everything added to them has been
+   * written, e.g. when the application exits. The writers are daemon threads, so records that are
+   * still queued when the application ends are lost otherwise.
+   *
+   * @param timeout the longest time to wait
+   * @param unit    the unit of the timeout
+   * @return true if every journal was written in time
+   */
+  public static boolean closeAll(long timeout, TimeUnit unit) {
+    List<CompletableFuture<Void>> writers = new ArrayList<>();
+    for (TurnJournal journal : open) {
+      journal.close();
+      writers.add(journal.stopped);
+    }
+    try {
+      CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).get(timeout, unit);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      return false;
+    }
+  }
+
+  private void submit(Kind kind, byte[] frame) {
+    offer(new Command(kind, frame, null));
+  }
+
+  private boolean offer(Command command) {
+    if (closed) {
+      logger.warning("Turn journal is closed: " + file);
+      return false;
+    }
+    queue.add(command);
+    return true;
+  }
+
+  /**
+   * Wraps the record in the buffer with its length and checksum.
+   */
+  private static byte[] frame(ByteBuffer record) {
+    record.flip();
+    CRC32C crc = new CRC32C();
+    crc.update(record.duplicate());
+    ByteBuffer framed = ByteBuffer.allocate(record.remaining() + 9);
+    GameSnapshot.putVarint(framed, record.remaining());
+    framed.put(record);
+    framed.putInt((int) crc.getValue());
+    byte[] bytes = new byte[framed.position()];
+    framed.flip().get(bytes);
+    return bytes;
+  }
+
+  private void writeLoop() {
+    List<Command> batch = new ArrayList<>();
+    List<byte[]> pending = new ArrayList<>();
+    List<CompletableFuture<Void>> waiting = new ArrayList<>();
+    boolean running = true;
+    while (running) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      // Everything that arrived while the last batch was written goes into this one
+      queue.drainTo(batch);
+
+      IOException failure = null;
+      for (Command command : batch) {
+        try {
+          switch (command.kind()) {
+            case APPEND:
+              pending.add(command.frame());
+              break;
+            case SYNC:
+              waiting.add(command.done());
+              break;
+            case REPLACE:
+              // The new snapshot already holds the records that were not written yet
+              pending.clear();
+              snapshot = command.frame();
+              sinceSnapshot.clear();
+              rewrite();
+              break;
+            case CLEAR:
+              pending.clear();
+              snapshot = null;
+              sinceSnapshot.clear();
+              closeChannel();
+              Files.deleteIfExists(file);
+              break;
+            default:
+              running = false;
+              break;
+          }
+        } catch (IOException e) {
+          failure = e;
+        }
+      }
+      try {
+        appendFrames(pending);
+      } catch (IOException e) {
+        failure = e;
+      }
+      if (failure != null) {
+        logger.log(Level.WARNING, "Error writing turn journal " + file, failure);
+      }
+      for (CompletableFuture<Void> done : waiting) {
+        if (failure == null) {
+          done.complete(null);
+        } else {
+          done.completeExceptionally(failure);
+        }
+      }
+      pending.clear();
+      waiting.clear();
+      batch.clear();
+    }
+    try {
+      closeChannel();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Error closing turn journal " + file, e);
+    }
+    open.remove(this);
+    stopped.complete(null);
+  }
+
+  /**
+   * Appends the records and forces them to disk once, together. If the file does not hold the
+   * last snapshot and every record since, e.g. because writing the snapshot failed or the file
+   * was removed, the whole journal is written again instead, so records are never added to a file
+   * without the snapshot they belong to.
+   */
+  private void appendFrames(List<byte[]> frames) throws IOException {
+    if (frames.isEmpty()) {
+      return;
+    }
+    if (snapshot == null) {
+      logger.warning("Dropped " + frames.size() + " turn journal records written before a "
+          + "snapshot: " + file);
+      return;
+    }
+    sinceSnapshot.addAll(frames);
+    if (fileComplete && !Files.exists(file)) {
+      logger.warning("Turn journal was removed while in use, writing it again: " + file);
+      closeChannel();
+      fileComplete = false;
+    }
+    if (!fileComplete) {
+      rewrite();
+      return;
+    }
+    if (channel == null) {
+      channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+    try {
+      writeFrames(channel, frames);
+      channel.force(false);
+    } catch (IOException e) {
+      // The file may end in part of a record, so the next batch writes the whole journal again
+      closeChannel();
+      fileComplete = false;
+      throw e;
+    }
+  }
+
+  /**
+   * Replaces the journal file with the last snapshot and every record written since.
+   */
+  private void rewrite() throws IOException {
+    closeChannel();
+    fileComplete = false;
+    List<byte[]> frames = new ArrayList<>(sinceSnapshot.size() + 1);
+    frames.add(snapshot);
+    frames.addAll(sinceSnapshot);
+    FileIo.writeAtomically(file, join(frames));
+    fileComplete = true;
+  }
+
+  private static void writeFrames(FileChannel channel, List<byte[]> frames) throws IOException {
+    ByteBuffer buffer = join(frames);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static ByteBuffer join(List<byte[]> frames) {
+    int size = 0;
+    for (byte[] frame : frames) {
+      size += frame.length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    for (byte[] frame : frames) {
+      buffer.put(frame);
+    }
+    return buffer.flip();
+  }
+
+  private void closeChannel() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  /**
+   * Checks if there is a journal file that a game might be recovered from.
+   *
+   * @param file the journal file
+   * @return true if the file exists and is not empty
+   */
+  public static boolean canRecover(Path file) {
+    try {
+      return Files.size(file) > 0;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Recovers a game from a journal file, by restoring its snapshot and applying every complete
+   * record after it. Records after the first incomplete or damaged one are ignored.
+   *
+   * @param file the journal file
+   * @param game the game to restore into, of the same game type as the saved game
+   * @return the configuration ID stored with the snapshot, or null if there is none
+   * @throws IOException if the file is missing or cannot be read
+   * @throws InvalidSnapshotException if the journal does not start with a valid snapshot
+   */
+  public static String recover(Path file, BoardGame game) throws IOException {
+    long size = Files.size(file);
+    if (size > MAX_FILE_SIZE) {
+      throw new InvalidSnapshotException("Turn journal is too large: " + size + " bytes");
+    }
+    ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+    ByteBuffer record = nextRecord(in);
+    if (record == null || record.get() != SNAPSHOT) {
+      throw new InvalidSnapshotException("Turn journal does not start with a saved game");
+    }
+    String configId = GameSnapshot.restore(record, game);
+
+    int applied = 0;
+    while ((record = nextRecord(in)) != null) {
+      try {
+        apply(record, game);
+        applied++;
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Stopped at an invalid turn journal record", e);
+        break;
+      }
+    }
+    int count = applied;
+    logger.fine(() -> "Recovered game from " + file + " with " + count + " records");
+    return configId;
+  }
+
+  /**
+   * Returns the next record, or null if there is no complete record with a valid checksum.
+   */
+  private static ByteBuffer nextRecord(ByteBuffer in) {
+    if (!in.hasRemaining()) {
+      return null;
+    }
+    try {
+      int length = GameSnapshot.getVarint(in);
+      if (length < 1 || length + 4 > in.remaining()) {
+        return null;
+      }
+      ByteBuffer record = in.slice(in.position(), length);
+      in.position(in.position() + length);
+      CRC32C crc = new CRC32C();
+      crc.update(record.duplicate());
+      return in.getInt() == (int) crc.getValue() ? record : null;
+    } catch (BufferUnderflowException | InvalidSnapshotException e) {
+      return null;
+    }
+  }
+
+  private static void apply(ByteBuffer record, BoardGame game) {
+    int kind = record.get() - 1;
+    GameEvent.Type[] types = GameEvent.Type.values();
+    if (kind < 0 || kind >= types.length) {
+      throw new InvalidSnapshotException("Unknown turn journal record: " + kind);
+    }
+    Player player = game.getPlayers().get(GameSnapshot.getVarint(record));
+    int toTileId = GameSnapshot.getVarint(record);
+    int value = GameSnapshot.getVarint(record);
+
+    switch (types[kind]) {
+      case ROLLED:
+        int[] values = new int[GameSnapshot.getVarint(record)];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = GameSnapshot.getVarint(record);
+        }
+        game.getDice().setDiceValues(values);
+        break;
+      case MOVED:
+      case LADDER:
+      case SNAKE:
+        player.setCurrentTile(game.getBoard().getTile(toTileId));
+        break;
+      case TURN_CHANGED:
+        game.setCurrentPlayer(player);
+        break;
+      case ANSWERED:
+        player.setScore(value);
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * The kinds of work for the writer thread.
+   */
+  private enum Kind {
+    APPEND,
+    REPLACE,
+    CLEAR,
+    SYNC,
+    STOP
+  }
+
+  /**
+   * Something for the writer thread to do.
+   */
+  private record Command(Kind kind, byte[] frame, CompletableFuture<Void> done) {
+  }
+}
@@ -0,0 +1,80 @@
+package view;
+
+import javafx.scene.control.Label;
+import model.entity.Player;
+
+/**
+ * The labels of a board grid, indexed by tile ID.
+ *
+ * <p>Remembers which tile is highlighted, so an update only touches the two labels whose
+ * highlight changed instead of searching every label by its text. The pieces are drawn on top
+ * of the labels by a PieceLayer.</p>
+ */
+class BoardCells {
+
+  private final Label[] cells;
+  private int highlightedTile;
+  private final String highlightStyle;
+
+  /**
+   * Constructor for BoardCells.
+   *
+   * @param tileCount      the number of tiles on the board
+   * @param highlightStyle the style of the current player's tile
+   */
+  BoardCells(int tileCount, String highlightStyle) {
+    this.cells = new Label[tileCount + 1];
+    this.highlightStyle = highlightStyle;
+  }
+
+  /**
+   * Forgets all labels, for when the grid is built again.
+   */
+  void clear() {
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = null;
+    }
+    highlightedTile = 0;
+  }
+
+  /**
+   * Adds the label of a tile.
+   *
+   * @param tileId the tile ID
+   * @param cell   the label showing the tile
+   */
+  void put(int tileId, Label cell) {
+    cells[tileId] = cell;
+  }
+
+  /**
+   * Returns the label of a tile.
+   *
+   * @param tileId the tile ID
+   * @return the label, or null if there is no tile with the ID
+   */
+  Label get(int tileId) {
+    return tileId > 0 && tileId < cells.length ? cells[tileId] : null;
+  }
+
+  /**
+   * Moves the highlight to the tile of the current player.
+   *
+   * @param current the player whose tile is highlighted, or null for no highlight
+   */
+  void highlight(Player current) {
+    int currentTile = current != null ? current.getCurrentTile().getTileId() : 0;
+    if (currentTile == highlightedTile) {
+      return;
+    }
+    Label old = get(highlightedTile);
+    if (old != null) {
+      old.setStyle("");
+    }
+    Label cell = get(currentTile);
+    if (cell != null) {
+      cell.setStyle(highlightStyle);
+    }
+    highlightedTile = currentTile;
+  }
+}
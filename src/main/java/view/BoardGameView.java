@@ -1,30 +1,28 @@
 package view;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import javafx.animation.AnimationTimer;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
-import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.shape.Circle;
 import javafx.scene.text.Text;
 import model.entity.BoardGame;
+import model.entity.Dice;
 import model.entity.Player;
-import model.util.BoardConfigLoader;
+import model.util.BoardConfigRegistry;
 import model.util.BoardConfigLoader.TileConfig;
-import java.util.List;
-import java.util.HashMap;
 import java.util.Map;
 import model.util.FullscreenHandler;
 import model.util.PieceImageLoader;
@@ -38,6 +36,9 @@ public class BoardGameView extends BorderPane {
   public interface Observer {
     void onRollDice();
     void onBack();
+    void onSaveGame();
+    void onLoadGame();
+    void onBoardChosen(String configFile);
   }
 
   private static final int COLS = 10;
@@ -55,16 +56,31 @@ public class BoardGameView extends BorderPane {
 
   private final ImageView die1View = new ImageView();
   private final ImageView die2View = new ImageView();
-  private final Image[] diceImages = new Image[7];
 
   private final GridPane boardGrid = new GridPane();
+  // Static layer with grid lines, ladders and snakes. Pieces and highlights are on the labels.
   private final Canvas ladderCanvas = new Canvas(500, 450);
+  private final AnimationTimer staticLayerPulse = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      rebuildStaticLayerWhenSettled();
+    }
+  };
+  private double pendingWidth = -1;
+  private double pendingHeight = -1;
+  private double layerWidth = -1;
+  private double layerHeight = -1;
+  private String layerConfigFile;
 
   private final VBox difficultyPane;
   private final Button rollButton;
   private final StackPane boardPane;
-  private final VBox playerListBox  = new VBox(5);
-  private final Map<Integer, Label> tileLabels = new HashMap<>();
+  private final PlayerListBox playerListBox = new PlayerListBox(5, player ->
+      player.getName() + " (tile " + player.getCurrentTile().getTileId() + ")");
+  private final BoardCells cells = new BoardCells(COLS * ROWS, "-fx-background-color: lightblue;");
+  private final PieceLayer pieceLayer = new PieceLayer(cells, PieceImageLoader.BOARD_SIZE);
+  private final RenderPulse renderPulse = new RenderPulse(this::render);
+  private final GameOverOverlay gameOverOverlay = new GameOverOverlay();
 
   /**
    * Constructor of view, with header on top, board in the center, and player list on the right.
@@ -78,17 +94,12 @@ public class BoardGameView extends BorderPane {
     this.getStyleClass().add("main-root");
     this.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/css/style.css")).toExternalForm());
 
-    for (int face = 1; face <= 6; face++) {
-      diceImages[face] =
-          new Image(
-              Objects.requireNonNull(getClass().getResourceAsStream("/icons/dice" + face + ".png")));
-    }
-    die1View.setFitWidth(64);
-    die1View.setFitHeight(64);
-    die2View.setFitWidth(64);
-    die2View.setFitHeight(64);
-    die1View.setImage(diceImages[1]);
-    die2View.setImage(diceImages[1]);
+    die1View.setFitWidth(SpriteAtlas.DICE_SIZE);
+    die1View.setFitHeight(SpriteAtlas.DICE_SIZE);
+    die2View.setFitWidth(SpriteAtlas.DICE_SIZE);
+    die2View.setFitHeight(SpriteAtlas.DICE_SIZE);
+    die1View.setImage(SpriteAtlas.diceFace(1));
+    die2View.setImage(SpriteAtlas.diceFace(1));
 
     //Title, sub labels and roll button
     Label title = new Label("Game Board");
@@ -103,8 +114,6 @@ public class BoardGameView extends BorderPane {
     rollButton.getStyleClass().add("roll-dice-button");
     rollButton.setOnAction(e -> {
       if (observer != null) observer.onRollDice();
-      updateDiceImages();
-      updateView();
     });
 
     rollButton.setDisable(true);
@@ -134,21 +143,16 @@ public class BoardGameView extends BorderPane {
     double cellW = 50, cellH = 50;
     ladderCanvas.setWidth(COLS * cellW);
     ladderCanvas.setHeight(ROWS * cellH);
-    drawLaddersAndSnakes("board_config.json");
 
-    boardPane = new StackPane(boardGrid, ladderCanvas);
+    boardPane = new StackPane(boardGrid, ladderCanvas, pieceLayer);
     boardPane.setAlignment(Pos.CENTER);
     boardPane.setPadding(new Insets(10));
     boardPane.setVisible(false);
 
     ladderCanvas.widthProperty().bind(boardPane.widthProperty().subtract(20));
     ladderCanvas.heightProperty().bind(boardPane.heightProperty().subtract(20));
-    ladderCanvas.widthProperty().addListener((obs, oldW, newW) ->
-      drawLaddersAndSnakes(chosenConfigFile)
-    );
-    ladderCanvas.heightProperty().addListener((obs, oldH, newH) ->
-      drawLaddersAndSnakes(chosenConfigFile)
-    );
+    ladderCanvas.widthProperty().addListener((obs, oldW, newW) -> requestStaticLayer());
+    ladderCanvas.heightProperty().addListener((obs, oldH, newH) -> requestStaticLayer());
 
 
     //Difficulty buttons
@@ -166,16 +170,18 @@ public class BoardGameView extends BorderPane {
     difficultyPane.setPadding(new Insets(20));
 
     //Stack: difficulty on top of board
-    StackPane centerStack = new StackPane(difficultyPane, boardPane);
+    StackPane centerStack = new StackPane(difficultyPane, boardPane, gameOverOverlay);
     setCenter(centerStack);
 
     //Button actions
     easyButton.setOnAction(e -> {
+      if (observer != null) observer.onBoardChosen(Easy_config);
       chosenConfigFile = Easy_config;
       loadConfigAndShowBoard(Easy_config);
       rollButton.setDisable(false);
     });
     hardButton.setOnAction(e -> {
+      if (observer != null) observer.onBoardChosen(Hard_config);
       chosenConfigFile = Hard_config;
       loadConfigAndShowBoard(Hard_config);
       rollButton.setDisable(false);
@@ -183,7 +189,7 @@ public class BoardGameView extends BorderPane {
 
     // Player list panel
     playerListBox.setPadding(new Insets(10));
-    playerListBox.setAlignment(Pos.TOP_RIGHT);
+    playerListBox.setAlignment(Pos.TOP_LEFT);
 
     // Box for rollButton, to make it more centered in the rightPanel
     HBox rollBox = new HBox(rollButton);
@@ -195,7 +201,20 @@ public class BoardGameView extends BorderPane {
       if (observer != null) observer.onBack();
     });
 
-    VBox rightPanel = new VBox(30, diceBox, rollBox, playerListBox, backButton
+    Button saveButton = new Button("Save");
+    saveButton.getStyleClass().add("button-main-player");
+    saveButton.setOnAction(e -> {
+      if (observer != null) observer.onSaveGame();
+    });
+    Button loadButton = new Button("Load");
+    loadButton.getStyleClass().add("button-main-player");
+    loadButton.setOnAction(e -> {
+      if (observer != null) observer.onLoadGame();
+    });
+    HBox saveBox = new HBox(10, saveButton, loadButton);
+    saveBox.setAlignment(Pos.CENTER_RIGHT);
+
+    VBox rightPanel = new VBox(30, diceBox, rollBox, playerListBox, saveBox, backButton
     );
     rightPanel.setAlignment(Pos.TOP_RIGHT);
     rightPanel.setPadding(new Insets(10));
@@ -209,6 +228,11 @@ public class BoardGameView extends BorderPane {
 
     fullscreenHandler.setupFullscreenHandling(this);
 
+    // Moves are animated, and every game event asks for a render, so a turn is rendered once
+    game.addListener(event -> {
+      pieceLayer.animate(event);
+      renderPulse.request();
+    });
     updateView();
   }
 
@@ -264,11 +288,53 @@ public class BoardGameView extends BorderPane {
   }
 
   private void updateDiceImages() {
-    List<Integer> vals = game.getDice().getDiceValues();
-    int v1 = vals.get(0);
-    int v2 = vals.size() > 1 ? vals.get(1) : 1;
-    die1View.setImage(diceImages[v1]);
-    die2View.setImage(diceImages[v2]);
+    Dice dice = game.getDice();
+    if (!dice.hasBeenRolled()) {
+      return;
+    }
+    int v1 = dice.getValue(0);
+    int v2 = dice.getNumberOfDice() > 1 ? dice.getValue(1) : 1;
+    die1View.setImage(SpriteAtlas.diceFace(v1));
+    die2View.setImage(SpriteAtlas.diceFace(v2));
+  }
+
+  /**
+   * Shows the game over overlay on top of the board and disables rolling. Returns at once.
+   *
+   * @param message the result of the game, e.g. who won
+   * @return a future completed on the JavaFX application thread with the choice of the user
+   */
+  public CompletableFuture<GameOverOverlay.Choice> showGameOver(String message) {
+    rollButton.setDisable(true);
+    return gameOverOverlay.show(message);
+  }
+
+  /**
+   * Resets the view for a new game with the same players, going back to the difficulty choice.
+   * The board, pieces and player list are kept and updated in place.
+   */
+  public void reset() {
+    gameOverOverlay.hide();
+    boardPane.setVisible(false);
+    difficultyPane.setVisible(true);
+    rollButton.setDisable(true);
+    die1View.setImage(SpriteAtlas.diceFace(1));
+    die2View.setImage(SpriteAtlas.diceFace(1));
+    updateView();
+  }
+
+  /**
+   * Shows the board with the given configuration and lets the current player roll, e.g. after a
+   * saved game has been loaded.
+   *
+   * @param configFile the path to the configuration file
+   */
+  public void showBoard(String configFile) {
+    gameOverOverlay.hide();
+    chosenConfigFile = configFile;
+    loadConfigAndShowBoard(configFile);
+    rollButton.setDisable(false);
+    updateView();
   }
 
   /**
@@ -286,13 +352,45 @@ public class BoardGameView extends BorderPane {
     boardGrid.setAlignment(Pos.CENTER);
     buildBoardGrid();
 
-    drawLaddersAndSnakes(configFile);
+    requestStaticLayer();
     styleLaddersAndSnakesTiles(configFile);
 
     boardPane.setVisible(true);
     difficultyPane.setVisible(false);
   }
 
+  /**
+   * Asks for the static layer to be drawn again. Any number of requests during a resize are
+   * coalesced into one redraw on a later pulse.
+   */
+  private void requestStaticLayer() {
+    staticLayerPulse.start();
+  }
+
+  /**
+   * Runs on each pulse after a request, and redraws the static layer once the canvas has kept
+   * the same size for a whole pulse. The layer is only drawn again if its size or configuration
+   * has changed since it was last drawn.
+   */
+  private void rebuildStaticLayerWhenSettled() {
+    double width = ladderCanvas.getWidth();
+    double height = ladderCanvas.getHeight();
+    if (width != pendingWidth || height != pendingHeight) {
+      // Still resizing, wait for the next pulse
+      pendingWidth = width;
+      pendingHeight = height;
+      return;
+    }
+    staticLayerPulse.stop();
+    if (width == layerWidth && height == layerHeight && chosenConfigFile.equals(layerConfigFile)) {
+      return;
+    }
+    drawLaddersAndSnakes(chosenConfigFile);
+    layerWidth = width;
+    layerHeight = height;
+    layerConfigFile = chosenConfigFile;
+  }
+
   /**
    * Draw all ladders and snakes from the JSON config file.
    *
@@ -321,7 +419,7 @@ public class BoardGameView extends BorderPane {
 
     // Draw ladders and snakes
     graphicsContext.setLineWidth(4);
-    Map<Integer, TileConfig> config = BoardConfigLoader.loadConfig(configFile);
+    Map<Integer, TileConfig> config = BoardConfigRegistry.get(configFile);
     for (Map.Entry<Integer, TileConfig> e : config.entrySet()) {
       int from = e.getKey();
       int to   = e.getValue().to;
@@ -390,21 +488,21 @@ public class BoardGameView extends BorderPane {
    * @param configFile the path to the configuration file
   */
   private void styleLaddersAndSnakesTiles(String configFile) {
-    Map<Integer, TileConfig> config = BoardConfigLoader.loadConfig(configFile);
+    Map<Integer, TileConfig> config = BoardConfigRegistry.get(configFile);
     for (Map.Entry<Integer, TileConfig> entry : config.entrySet()) {
       int from = entry.getKey();
       int to   = entry.getValue().to;
 
       if (to == 1){
-        Label cell = tileLabels.get(from);
+        Label cell = cells.get(from);
         if (cell != null) {
           cell.getStyleClass().add("tile-back-to-start");
         }
         continue;
       }
 
-      Label fromCell = tileLabels.get(from);
-      Label toCell   = tileLabels.get(to);
+      Label fromCell = cells.get(from);
+      Label toCell   = cells.get(to);
       if (fromCell == null || toCell == null) continue;
       if (to > from) {
         fromCell.getStyleClass().add("tile-ladder-start");
@@ -416,31 +514,6 @@ public class BoardGameView extends BorderPane {
     }
   }
 
-  /**
-   * Method for building playerList with the selected pieces newt to the player name.
-   *
-   * @param player name of the player.
-   * @param isCurrent the player that is currently playing.
-   * @return playerList with piece icons.
-   */
-  private Node makePlayerListOnRight(Player player, boolean isCurrent) {
-    ImageView imageView = new ImageView(PieceImageLoader.get(player.getPiece()));
-    imageView.setFitWidth(24);
-    imageView.setFitHeight(24);
-    imageView.setPreserveRatio(true);
-
-    Label label = new Label(player.getName() + " (tile " + player.getCurrentTile().getTileId() + ")", imageView);
-    label.setContentDisplay(ContentDisplay.LEFT);
-    label.setGraphicTextGap(8);
-    label.getStyleClass().add("label-sub");
-    if (isCurrent) {
-      label.getStyleClass().add("label-bold");
-    }
-    return label;
-  }
-
-
-
   /** Cols X rows grid of tiles. */
   private void buildBoardGrid() {
     boardGrid.setGridLinesVisible(true);
@@ -448,7 +521,7 @@ public class BoardGameView extends BorderPane {
     boardGrid.getChildren().clear();
     boardGrid.getColumnConstraints().clear();
     boardGrid.getRowConstraints().clear();
-    tileLabels.clear();
+    cells.clear();
 
     for (int c = 0; c < COLS; c++) {
       javafx.scene.layout.ColumnConstraints cc = new javafx.scene.layout.ColumnConstraints();
@@ -468,8 +541,10 @@ public class BoardGameView extends BorderPane {
       cell.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
       cell.setAlignment(Pos.CENTER);
       boardGrid.add(cell, rc[1], ROWS - 1 - rc[0]);
-      tileLabels.put(id, cell);
+      cells.put(id, cell);
     }
+    // The new labels are laid out before the pieces on the next pulse
+    pieceLayer.requestLayout();
   }
 
   /**
@@ -486,6 +561,11 @@ public class BoardGameView extends BorderPane {
     return new int[]{ row, col };
   }
 
+  private void render() {
+    updateDiceImages();
+    updateView();
+  }
+
   /**
    * Refreshing header labels, board highlight, and player list.
    * Called after the change in the game model.
@@ -501,53 +581,8 @@ public class BoardGameView extends BorderPane {
             : "Last roll: -"
     );
 
-    boardGrid.getChildren().forEach(node -> {
-      if (node instanceof Label cell) {
-        cell.setStyle("");
-        cell.setGraphic(null);
-      }
-    });
-
-    if (current != null) {
-      int id = current.getCurrentTile().getTileId();
-      for (javafx.scene.Node node : boardGrid.getChildren()) {
-        if (node instanceof Label && ((Label) node).getText().equals(String.valueOf(id))) {
-          (node).setStyle("-fx-background-color: lightblue;");
-          break;
-        }
-      }
-    }
-
-    for (Player player : game.getPlayers()) {
-      int id = player.getCurrentTile().getTileId();
-      Label cell = tileLabels.get(id);
-      if (cell == null) {
-        continue;
-      }
-      Image image = PieceImageLoader.get(player.getPiece());
-      if (image != null) {
-        ImageView imageView = new ImageView(image);
-        imageView.setFitWidth(30);
-        imageView.setFitHeight(30);
-        imageView.setPreserveRatio(true);
-        for (javafx.scene.Node node : boardGrid.getChildren()) {
-          if (node instanceof Label && ((Label) node).getText().equals(String.valueOf(id))) {
-            ((Label) node).setGraphic(imageView);
-            break;
-          }
-        }
-      }
-    }
-
-    playerListBox.getChildren().clear();
-    Label playersTitle = new Label("Players:");
-    playersTitle.getStyleClass().addAll("label-sub","label-list-header");
-    playerListBox.getChildren().add(playersTitle);
-    playerListBox.setAlignment(Pos.TOP_LEFT);
-
-    for (Player player : game.getPlayers()) {
-      boolean isCurrent = player == current;
-      playerListBox.getChildren().add(makePlayerListOnRight(player, isCurrent));
-    }
+    cells.highlight(current);
+    pieceLayer.update(game.getPlayers());
+    playerListBox.update(game.getPlayers(), current);
   }
 }
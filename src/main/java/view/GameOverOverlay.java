@@ -0,0 +1,99 @@
+package view;
+
+import java.util.concurrent.CompletableFuture;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+/**
+ * An overlay shown over the board when a game is over, with the result and the choice to play
+ * again or go back to the main menu.
+ *
+ * <p>Unlike a dialog shown with showAndWait, the overlay does not block. {@link #show(String)}
+ * returns at once with a future, which is completed on the JavaFX application thread when a
+ * button is pressed.</p>
+ */
+public class GameOverOverlay extends StackPane {
+
+  /**
+   * The choices on the game over overlay.
+   */
+  public enum Choice {
+    PLAY_AGAIN,
+    MAIN_MENU
+  }
+
+  private final Label messageLabel = new Label();
+  private CompletableFuture<Choice> pending;
+
+  /**
+   * Constructor for GameOverOverlay. The overlay starts hidden.
+   */
+  public GameOverOverlay() {
+    Label title = new Label("Game Over");
+    title.getStyleClass().add("label-title");
+    messageLabel.getStyleClass().add("label-sub");
+
+    Button playAgain = new Button("Play Again");
+    playAgain.getStyleClass().add("button-main");
+    playAgain.setOnAction(e -> choose(Choice.PLAY_AGAIN));
+    Button mainMenu = new Button("Main Menu");
+    mainMenu.getStyleClass().add("button-main");
+    mainMenu.setOnAction(e -> choose(Choice.MAIN_MENU));
+
+    HBox buttons = new HBox(10, playAgain, mainMenu);
+    buttons.setAlignment(Pos.CENTER);
+
+    VBox card = new VBox(15, title, messageLabel, buttons);
+    card.setAlignment(Pos.CENTER);
+    card.setPadding(new Insets(30));
+    card.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+    card.setStyle("-fx-background-color: rgba(255,255,255,0.95); -fx-background-radius: 10;");
+
+    getChildren().add(card);
+    setStyle("-fx-background-color: rgba(0,0,0,0.4);");
+    setVisible(false);
+  }
+
+  /**
+   * Shows the overlay with the given result.
+   *
+   * @param message the result of the game, e.g. who won
+   * @return a future completed with the choice of the user
+   */
+  public CompletableFuture<Choice> show(String message) {
+    if (pending != null) {
+      pending.cancel(false);
+    }
+    messageLabel.setText(message);
+    pending = new CompletableFuture<>();
+    setVisible(true);
+    toFront();
+    return pending;
+  }
+
+  /**
+   * Hides the overlay without a choice.
+   */
+  public void hide() {
+    setVisible(false);
+    if (pending != null) {
+      pending.cancel(false);
+      pending = null;
+    }
+  }
+
+  private void choose(Choice choice) {
+    setVisible(false);
+    CompletableFuture<Choice> future = pending;
+    pending = null;
+    if (future != null) {
+      future.complete(choice);
+    }
+  }
+}
@@ -0,0 +1,303 @@
+package view;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.util.Duration;
+import model.entity.GameEvent;
+import model.entity.Player;
+
+/**
+ * A layer drawn on top of a board grid, where each player owns one piece image for the whole
+ * game.
+ *
+ * <p>When a player moves, the same image is relocated to the new tile instead of a new image
+ * being created. Players standing on the same tile are spread out so all of them can be seen.
+ * The layer takes no space of its own and lets mouse events through to the board.</p>
+ *
+ * <p>Moves reported by game events are animated. The model has already finished the move when
+ * the event arrives, so each piece keeps a queue of tiles still to be shown and walks through
+ * them one step at a time with a Timeline, sliding straight along ladders and snakes. Moves
+ * without an event, such as a reset, make the piece jump to its tile at once.</p>
+ */
+class PieceLayer extends Pane {
+
+  /** How long one step between neighbouring tiles takes. */
+  private static final double STEP_MILLIS = 120;
+
+  /** How long a slide along a ladder or snake takes. */
+  private static final double JUMP_MILLIS = 350;
+
+  private final BoardCells cells;
+  private final double pieceSize;
+  private final Map<Player, Sprite> sprites = new IdentityHashMap<>();
+  private final List<Sprite> order = new ArrayList<>();
+
+  /**
+   * Constructor for PieceLayer.
+   *
+   * @param cells     the labels of the board the pieces stand on
+   * @param pieceSize the width and height of the piece images
+   */
+  PieceLayer(BoardCells cells, double pieceSize) {
+    this.cells = cells;
+    this.pieceSize = pieceSize;
+    setMouseTransparent(true);
+    setMinSize(0, 0);
+  }
+
+  /**
+   * Moves every piece to the tile its player stands on. Pieces are created for new players and
+   * removed for players that have left, and nothing is laid out again if no piece moved.
+   *
+   * @param players the players, in turn order
+   */
+  void update(List<Player> players) {
+    boolean changed = players.size() != order.size();
+    for (int i = 0; i < players.size() && !changed; i++) {
+      changed = order.get(i).player != players.get(i);
+    }
+    if (changed) {
+      syncPlayers(players);
+    }
+
+    for (Sprite sprite : order) {
+      int tileId = sprite.player.getCurrentTile().getTileId();
+      if (tileId != sprite.targetTileId) {
+        sprite.jumpTo(tileId);
+        changed = true;
+      }
+    }
+    if (changed) {
+      requestLayout();
+    }
+  }
+
+  /**
+   * Animates a move reported by a game event. Steps are shown one tile at a time, and ladders
+   * and snakes as one slide. Other events are ignored.
+   *
+   * @param event the game event
+   */
+  void animate(GameEvent event) {
+    Sprite sprite = sprites.get(event.getPlayer());
+    if (sprite == null) {
+      return;
+    }
+    switch (event.getType()) {
+      case MOVED:
+        int step = event.getToTileId() > event.getFromTileId() ? 1 : -1;
+        for (int id = event.getFromTileId() + step; id != event.getToTileId() + step; id += step) {
+          sprite.enqueue(id, STEP_MILLIS);
+        }
+        break;
+      case LADDER:
+      case SNAKE:
+        sprite.enqueue(event.getToTileId(), JUMP_MILLIS);
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Returns a future that completes on the JavaFX application thread when the piece of a player
+   * has walked through every tile queued for it, e.g. to show something only once the piece has
+   * arrived. The future is already complete if the piece is standing still or the player has no
+   * piece on this layer.
+   *
+   * @param player the player
+   * @return a future that completes when the piece stops
+   */
+  CompletableFuture<Void> whenStopped(Player player) {
+    Sprite sprite = sprites.get(player);
+    return sprite != null ? sprite.stopped : CompletableFuture.completedFuture(null);
+  }
+
+  private void syncPlayers(List<Player> players) {
+    Map<Player, Sprite> old = new IdentityHashMap<>(sprites);
+    sprites.clear();
+    order.clear();
+    for (Player player : players) {
+      Sprite sprite = old.remove(player);
+      if (sprite == null) {
+        sprite = new Sprite(player);
+        getChildren().add(sprite.view);
+      }
+      sprites.put(player, sprite);
+      order.add(sprite);
+    }
+    for (Sprite gone : old.values()) {
+      getChildren().remove(gone.view);
+    }
+  }
+
+  /**
+   * Returns the piece image of a player.
+   *
+   * @param player the player
+   * @return the image view, or null if the player has no piece on this layer
+   */
+  ImageView getPiece(Player player) {
+    Sprite sprite = sprites.get(player);
+    return sprite != null ? sprite.view : null;
+  }
+
+  /**
+   * Returns where the piece on the given tile is placed, as the top left corner of the image in
+   * this layer's coordinates.
+   *
+   * @param tileId the tile ID
+   * @param slot   which of the pieces on the tile, starting at 0
+   * @param count  how many pieces stand on the tile
+   * @return the position, or null if the tile is not on the board
+   */
+  Point2D piecePosition(int tileId, int slot, int count) {
+    Label cell = cells.get(tileId);
+    if (cell == null || cell.getScene() == null || getScene() == null) {
+      return null;
+    }
+    Bounds bounds = sceneToLocal(cell.localToScene(cell.getLayoutBounds()));
+    double spread = count > 1 ? Math.min(pieceSize / 2, bounds.getWidth() / (2 * count)) : 0;
+    double x = bounds.getCenterX() - pieceSize / 2 + (slot - (count - 1) / 2.0) * spread;
+    double y = bounds.getCenterY() - pieceSize / 2;
+    return new Point2D(x, y);
+  }
+
+  /**
+   * Returns where a piece is placed on the tile it is shown on, among the other pieces there.
+   */
+  private Point2D positionOf(Sprite sprite) {
+    int slot = 0;
+    int count = 0;
+    for (Sprite other : order) {
+      if (other.shownTileId == sprite.shownTileId) {
+        if (other == sprite) {
+          slot = count;
+        }
+        count++;
+      }
+    }
+    return piecePosition(sprite.shownTileId, slot, count);
+  }
+
+  @Override
+  protected void layoutChildren() {
+    for (Sprite sprite : order) {
+      Point2D position = positionOf(sprite);
+      sprite.view.setVisible(position != null);
+      if (position != null) {
+        sprite.view.relocate(position.getX(), position.getY());
+      }
+    }
+  }
+
+  @Override
+  protected double computePrefWidth(double height) {
+    return 0;
+  }
+
+  @Override
+  protected double computePrefHeight(double width) {
+    return 0;
+  }
+
+  /**
+   * The piece image of one player, the tile it is shown on, and the tiles it still has to walk
+   * through.
+   */
+  private class Sprite {
+    private final Player player;
+    private final ImageView view;
+    private final Deque<Step> steps = new ArrayDeque<>();
+    private Timeline timeline;
+    private CompletableFuture<Void> stopped = CompletableFuture.completedFuture(null);
+    private int shownTileId;
+    private int targetTileId;
+
+    Sprite(Player player) {
+      this.player = player;
+      this.view = new ImageView(SpriteAtlas.piece(player.getPiece(), (int) pieceSize));
+      view.setFitWidth(pieceSize);
+      view.setFitHeight(pieceSize);
+      view.setPreserveRatio(true);
+      view.setManaged(false);
+    }
+
+    /**
+     * Shows the piece on the given tile at once, dropping any steps not yet shown.
+     */
+    void jumpTo(int tileId) {
+      if (timeline != null) {
+        timeline.stop();
+        timeline = null;
+      }
+      steps.clear();
+      view.setTranslateX(0);
+      view.setTranslateY(0);
+      shownTileId = tileId;
+      targetTileId = tileId;
+      stopped.complete(null);
+    }
+
+    /**
+     * Adds a tile to walk to after the ones already queued.
+     */
+    void enqueue(int tileId, double millis) {
+      steps.add(new Step(tileId, millis));
+      targetTileId = tileId;
+      if (stopped.isDone()) {
+        stopped = new CompletableFuture<>();
+      }
+      if (timeline == null) {
+        playNext();
+      }
+    }
+
+    private void playNext() {
+      Step step = steps.poll();
+      if (step == null) {
+        timeline = null;
+        stopped.complete(null);
+        return;
+      }
+      Point2D from = positionOf(this);
+      shownTileId = step.tileId();
+      Point2D to = positionOf(this);
+      requestLayout();
+      if (from == null || to == null) {
+        playNext();
+        return;
+      }
+
+      // Move the piece to its new tile, and let the translation slide it there from the old one
+      view.relocate(to.getX(), to.getY());
+      view.setTranslateX(from.getX() - to.getX() + view.getTranslateX());
+      view.setTranslateY(from.getY() - to.getY() + view.getTranslateY());
+      timeline = new Timeline(new KeyFrame(Duration.millis(step.millis()),
+          new KeyValue(view.translateXProperty(), 0, Interpolator.EASE_BOTH),
+          new KeyValue(view.translateYProperty(), 0, Interpolator.EASE_BOTH)));
+      timeline.setOnFinished(e -> playNext());
+      timeline.play();
+    }
+  }
+
+  /**
+   * A tile to walk to and how long the walk takes.
+   */
+  private record Step(int tileId, double millis) {
+  }
+}
@@ -1,11 +1,11 @@
 package view;
 
+import controller.PlayerNameIndex;
 import controller.PlayerRecord;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
-import javafx.collections.FXCollections;
 import javafx.geometry.Pos;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
@@ -24,6 +24,9 @@ import model.util.PieceImageLoader;
  */
 public class PlayerInputRow extends HBox {
 
+  /** The highest number of saved players suggested for a name. */
+  private static final int MAX_SUGGESTIONS = 10;
+
   private final RadioButton newRadio     = new RadioButton("New player");
   private final RadioButton savedRadio   = new RadioButton("Saved player");
   private final ComboBox<String> savedCombo;
@@ -37,23 +40,25 @@ public class PlayerInputRow extends HBox {
 
   private final ImageView piecePreview   = new ImageView();
 
+  private final PlayerNameIndex savedPlayers;
+  private boolean choosing;
+
   private Consumer<Void> onPieceChanged;
 
   /**
    * Constructor for PlayerInputRow.
    * @param label         “Player 1,” “Player 2” and so on.
-   * @param savedPlayers  name of the players from the CSV file.
+   * @param savedPlayers  the players from the CSV file, shared by all rows.
    * @param pieceOptions  the pieces to choose from.
-   * @param savedRecords  PlayerRecord‐objects for all players in the CSV file.
    */
   public PlayerInputRow(String label,
-      List<String> savedPlayers,
-      List<String> pieceOptions,
-      List<PlayerRecord> savedRecords) {
+      PlayerNameIndex savedPlayers,
+      List<String> pieceOptions) {
     super(10);
     setAlignment(Pos.CENTER);
     this.setSpacing(10);
     this.getStyleClass().add("player-row");
+    this.savedPlayers = savedPlayers;
 
     Label lbl = new Label(label);
     lbl.getStyleClass().add("player-label");
@@ -63,46 +68,40 @@ public class PlayerInputRow extends HBox {
     savedRadio.setToggleGroup(nameGroup);
     newRadio.setSelected(true);
 
-    savedCombo = new ComboBox<>(FXCollections.observableArrayList(savedPlayers));
+    savedCombo = new ComboBox<>();
 
     savedCombo.setDisable(true);
 
     nameField.setPromptText("Name");
     nameField.getStyleClass().add("player-input-name-playerview");
+    nameField.textProperty().addListener((obs, oldText, text) -> {
+      if (savedRadio.isSelected() && !choosing) {
+        refreshSuggestions();
+      }
+    });
 
     nameGroup.selectedToggleProperty().addListener((obs, oldT, newT) -> {
       boolean isSaved = newT == savedRadio;
       savedCombo.setDisable(!isSaved);
-      nameField.setDisable(isSaved);
       saveNewCheck.setDisable(isSaved);
+      nameField.setPromptText(isSaved ? "Search saved players" : "Name");
       if (isSaved) {
-        String sel = savedCombo.getValue();
-        if (sel != null) {
-          nameField.setText(sel);
-          savedRecords.stream()
-              .filter(r -> r.name().equals(sel))
-              .findFirst()
-              .ifPresent(r -> setSelectedPiece(r.piece()));
-        }
+        refreshSuggestions();
       } else {
         nameField.clear();
         pieceGroup.selectToggle(null);
         updatePreview(null);
+        savedCombo.getItems().clear();
       }
       notifyPieceChanged();
     });
 
     savedCombo.setOnAction(e -> {
-      if (savedRadio.isSelected()) {
-        String sel = savedCombo.getValue();
-        if (sel != null) {
-          nameField.setText(sel);
-          savedRecords.stream()
-              .filter(r -> r.name().equals(sel))
-              .findFirst()
-              .ifPresent(r -> setSelectedPiece(r.piece()));
-          notifyPieceChanged();
-          updatePreview(getSelectedPiece());
+      String sel = savedCombo.getValue();
+      if (savedRadio.isSelected() && sel != null && !choosing) {
+        PlayerRecord record = savedPlayers.get(sel);
+        if (record != null) {
+          choose(record);
         }
       }
     });
@@ -134,6 +133,46 @@ public class PlayerInputRow extends HBox {
     pieceBox.getStyleClass().add("piece-box");
   }
 
+  /**
+   * Shows the saved players whose names start with the typed name. If the typed name is a
+   * saved player, that player's piece is selected.
+   */
+  public void refreshSuggestions() {
+    if (!savedRadio.isSelected()) {
+      return;
+    }
+    String typed = getPlayerName();
+    PlayerRecord exact = savedPlayers.get(typed);
+    if (exact != null && !Objects.equals(exact.piece(), getSelectedPiece())) {
+      setSelectedPiece(exact.piece());
+      notifyPieceChanged();
+    }
+
+    List<String> names = new ArrayList<>(MAX_SUGGESTIONS);
+    for (PlayerRecord record : savedPlayers.suggest(typed, MAX_SUGGESTIONS)) {
+      names.add(record.name());
+    }
+    if (!names.equals(savedCombo.getItems())) {
+      choosing = true;
+      savedCombo.getItems().setAll(names);
+      choosing = false;
+    }
+    if (names.isEmpty() || exact != null || !nameField.isFocused()) {
+      savedCombo.hide();
+    } else {
+      savedCombo.show();
+    }
+  }
+
+  private void choose(PlayerRecord record) {
+    choosing = true;
+    nameField.setText(record.name());
+    choosing = false;
+    setSelectedPiece(record.piece());
+    notifyPieceChanged();
+    updatePreview(getSelectedPiece());
+  }
+
   private void notifyPieceChanged() {
     if (onPieceChanged != null) onPieceChanged.accept(null);
   }
@@ -148,7 +187,7 @@ public class PlayerInputRow extends HBox {
 
   private void updatePreview(String piece) {
     if (piece != null) {
-      piecePreview.setImage(PieceImageLoader.get(piece));
+      piecePreview.setImage(SpriteAtlas.piece(piece, PieceImageLoader.LARGE_SIZE));
     } else {
       piecePreview.setImage(null);
     }
@@ -0,0 +1,111 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.VBox;
+import model.entity.Player;
+import model.util.PieceImageLoader;
+
+/**
+ * The list of players next to a board, with each player's piece and a line of text.
+ *
+ * <p>Each player keeps the same label for as long as they are in the list. An update only
+ * changes the text and style of labels whose player has changed, and the labels are only
+ * replaced when players join, leave or change order.</p>
+ */
+class PlayerListBox extends VBox {
+
+  private final Function<Player, String> text;
+  private final List<Player> shownPlayers = new ArrayList<>();
+  private final List<Label> items = new ArrayList<>();
+
+  /**
+   * Constructor for PlayerListBox.
+   *
+   * @param spacing the space between the rows
+   * @param text    the text shown for a player
+   */
+  PlayerListBox(double spacing, Function<Player, String> text) {
+    super(spacing);
+    this.text = text;
+    Label header = new Label("Players:");
+    header.getStyleClass().addAll("label-sub", "label-list-header");
+    getChildren().add(header);
+  }
+
+  /**
+   * Shows the given players, with the current player in bold.
+   *
+   * @param players the players, in turn order
+   * @param current the player whose turn it is, or null
+   */
+  void update(List<Player> players, Player current) {
+    if (!sameOrder(players)) {
+      List<Label> old = new ArrayList<>(items);
+      List<Player> oldPlayers = new ArrayList<>(shownPlayers);
+      items.clear();
+      shownPlayers.clear();
+      for (Player player : players) {
+        int index = indexOf(oldPlayers, player);
+        items.add(index >= 0 ? old.get(index) : makeItem(player));
+        shownPlayers.add(player);
+      }
+      getChildren().remove(1, getChildren().size());
+      getChildren().addAll(items);
+    }
+
+    for (int i = 0; i < items.size(); i++) {
+      Player player = shownPlayers.get(i);
+      Label item = items.get(i);
+      String line = text.apply(player);
+      if (!line.equals(item.getText())) {
+        item.setText(line);
+      }
+      boolean bold = item.getStyleClass().contains("label-bold");
+      if (player == current && !bold) {
+        item.getStyleClass().add("label-bold");
+      } else if (player != current && bold) {
+        item.getStyleClass().remove("label-bold");
+      }
+    }
+  }
+
+  private boolean sameOrder(List<Player> players) {
+    if (players.size() != shownPlayers.size()) {
+      return false;
+    }
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i) != shownPlayers.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int indexOf(List<Player> players, Player player) {
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i) == player) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private Label makeItem(Player player) {
+    int size = PieceImageLoader.SMALL_SIZE;
+    ImageView imageView = new ImageView(SpriteAtlas.piece(player.getPiece(), size));
+    imageView.setFitWidth(size);
+    imageView.setFitHeight(size);
+    imageView.setPreserveRatio(true);
+
+    Label label = new Label(text.apply(player), imageView);
+    label.setContentDisplay(ContentDisplay.LEFT);
+    label.setGraphicTextGap(8);
+    label.getStyleClass().add("label-sub");
+    return label;
+  }
+}
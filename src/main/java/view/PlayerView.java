@@ -2,15 +2,12 @@
 package view;
 
 import controller.PlayerRecord;
-import controller.ReadFromCSV;
-import controller.SaveToCSV;
+import controller.SavedPlayers;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.geometry.Pos;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
@@ -19,16 +16,15 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import model.logic.GameType;
 import model.util.FullscreenHandler;
+import model.util.PieceImageLoader;
 
 /**
  * PlayerView class allows users to enter player names and select game pieces. It also provides
- * functionality to save player records to a CSV file.
+ * functionality to save player records to the roster file.
  */
 public class PlayerView extends VBox {
 
-  private final SaveToCSV saveToCSV;
-  private final List<PlayerRecord> savedRecords;
-  private final ObservableList<String> savedPlayers;
+  private final SavedPlayers savedPlayers;
   private final List<PlayerInputRow> rows = new ArrayList<>();
   private Observer observer;
 
@@ -48,18 +44,12 @@ public class PlayerView extends VBox {
    * @param numPlayers        Number of players that was chosen on the previous "page"
    * @param gameType          The type of game that was chosen on the previous "page"
    * @param fullscreenHandler The handler for fullscreen mode
+   * @param savedPlayers      The saved players suggested in the rows
    */
-  public PlayerView(int numPlayers, GameType gameType, FullscreenHandler fullscreenHandler) {
+  public PlayerView(int numPlayers, GameType gameType, FullscreenHandler fullscreenHandler,
+      SavedPlayers savedPlayers) {
     super(20);
-    this.saveToCSV = new SaveToCSV("players.csv");
-    ReadFromCSV r = new ReadFromCSV("players.csv");
-    this.savedRecords = FXCollections.observableArrayList(r.readPlayers());
-
-    this.savedPlayers = FXCollections.observableArrayList(
-        savedRecords.stream()
-            .map(PlayerRecord::name)
-            .collect(Collectors.toList())
-    );
+    this.savedPlayers = savedPlayers;
 
     Label title = new Label(gameType.getDisplayName());
     title.getStyleClass().add("label-title-player");
@@ -78,16 +68,17 @@ public class PlayerView extends VBox {
     this.setAlignment(Pos.CENTER);
     this.getChildren().addAll(title, instruction);
 
-    List<String> pieceOptions = List.of("Car", "Hat", "Dog", "Ship", "Plane", "Crown");
+    List<String> pieceOptions = PieceImageLoader.PIECES;
     for (int i = 0; i < numPlayers; i++) {
       String label = "Player " + (i + 1);
-      PlayerInputRow row = new PlayerInputRow(label, savedPlayers, pieceOptions, savedRecords);
+      PlayerInputRow row = new PlayerInputRow(label, savedPlayers.getIndex(), pieceOptions);
       row.setOnPieceChanged(v -> updateAvailablePieces());
       rows.add(row);
       this.getChildren().add(row);
     }
 
     updateAvailablePieces();
+    savedPlayers.setOnChange(this::refreshSuggestions);
 
     Button startButton = new Button("Start Game");
     startButton.getStyleClass().add("button-main-player");
@@ -105,13 +96,22 @@ public class PlayerView extends VBox {
     fullscreenHandler.setupFullscreenHandling(this);
   }
 
+  /**
+   * Shows the saved players that were added while this screen is open in the rows.
+   */
+  private void refreshSuggestions() {
+    for (PlayerInputRow row : rows) {
+      row.refreshSuggestions();
+    }
+  }
+
   private void updateAvailablePieces() {
     Map<String, Long> used = rows.stream()
         .map(PlayerInputRow::getSelectedPiece)
         .filter(Objects::nonNull)
         .collect(Collectors.groupingBy(p -> p, Collectors.counting()));
 
-    List<String> all = List.of("Car", "Hat", "Dog", "Ship", "Plane", "Crown");
+    List<String> all = PieceImageLoader.PIECES;
 
     for (PlayerInputRow row : rows) {
       String current = row.getSelectedPiece();
@@ -171,19 +171,16 @@ public class PlayerView extends VBox {
     }
 
     List<PlayerData> players = new ArrayList<>();
+    List<PlayerRecord> newRecords = new ArrayList<>();
     for (PlayerInputRow row : rows) {
       String name = row.getPlayerName();
       String piece = row.getSelectedPiece();
-      boolean isNewPlayer = row.shouldSaveNewPlayer() && savedRecords.stream()
-          .noneMatch(rec -> rec.name().equals(name));
-      if (isNewPlayer) {
-        PlayerRecord newRecord = new PlayerRecord(name, piece);
-        savedRecords.add(newRecord);
-        savedPlayers.add(name);
-        saveToCSV.addPlayer(newRecord);
+      if (row.shouldSaveNewPlayer()) {
+        newRecords.add(new PlayerRecord(name, piece));
       }
       players.add(new PlayerData(name, piece));
     }
+    savedPlayers.save(newRecords);
     if (observer != null) {
       observer.onStartGame(players);
     }
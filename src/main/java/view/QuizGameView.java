@@ -4,15 +4,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Button;
-import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.ToggleGroup;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
@@ -22,6 +20,7 @@ import javafx.scene.layout.VBox;
 import javafx.scene.shape.Circle;
 import javafx.scene.text.Text;
 import model.entity.BoardGame;
+import model.entity.Dice;
 import model.entity.Player;
 import model.util.FullscreenHandler;
 import model.util.PieceImageLoader;
@@ -47,6 +46,10 @@ public class QuizGameView extends BorderPane {
     void onCategorySelected(String playerName);
 
     void onBack();
+
+    void onSaveGame();
+
+    void onLoadGame();
   }
 
   private Observer observer;
@@ -57,11 +60,15 @@ public class QuizGameView extends BorderPane {
   private static final int COLS = 10, ROWS = 9;
 
   private final GridPane boardGrid = new GridPane();
+  private final BoardCells cells = new BoardCells(COLS * ROWS,
+      "-fx-background-color: linear-gradient(to bottom, rgba(255,255,255,1) 0%,rgba(255,255,255,0) 100%);");
+  private final PieceLayer pieceLayer = new PieceLayer(cells, PieceImageLoader.SMALL_SIZE);
+  private final RenderPulse renderPulse = new RenderPulse(this::updateView);
+  private final GameOverOverlay gameOverOverlay = new GameOverOverlay();
 
   private final Label currentPlayerLabel = new Label("Current player");
   private final ImageView die1 = new ImageView();
   private final ImageView die2 = new ImageView();
-  private final Image[] diceImages = new Image[7];
   private final Button rollButton = new Button("Roll dice");
 
   private final VBox quizPane = new VBox(10);
@@ -70,7 +77,10 @@ public class QuizGameView extends BorderPane {
   private final VBox answersBox = new VBox(10);
   private final Button skipButton = new Button("Skip");
 
-  private final VBox playerListBox = new VBox(5);
+  private final PlayerListBox playerListBox = new PlayerListBox(5, player -> {
+    int score = player.getScore();
+    return player.getName() + ": " + score + (score == 1 ? " point" : " points");
+  });
 
   private final VBox categoryPane;
 
@@ -91,17 +101,12 @@ public class QuizGameView extends BorderPane {
 
     rollButton.setDisable(true);
 
-    for (int f = 1; f <= 6; f++) {
-      diceImages[f] = new Image(
-          Objects.requireNonNull(getClass().getResourceAsStream("/icons/dice" + f + ".png"))
-      );
-    }
-    die1.setFitWidth(64);
-    die1.setFitHeight(64);
-    die2.setFitWidth(64);
-    die2.setFitHeight(64);
-    die1.setImage(diceImages[1]);
-    die2.setImage(diceImages[1]);
+    die1.setFitWidth(SpriteAtlas.DICE_SIZE);
+    die1.setFitHeight(SpriteAtlas.DICE_SIZE);
+    die2.setFitWidth(SpriteAtlas.DICE_SIZE);
+    die2.setFitHeight(SpriteAtlas.DICE_SIZE);
+    die1.setImage(SpriteAtlas.diceFace(1));
+    die2.setImage(SpriteAtlas.diceFace(1));
 
     currentPlayerLabel.getStyleClass().add("label-sub");
     rollButton.getStyleClass().add("roll-dice-button");
@@ -183,7 +188,9 @@ public class QuizGameView extends BorderPane {
     categoryPane.setAlignment(Pos.CENTER);
     categoryPane.setPadding(new Insets(50));
 
-    StackPane centerStack = new StackPane(categoryPane, boardGrid, quizPane);
+    StackPane centerStack =
+        new StackPane(categoryPane, boardGrid, pieceLayer, quizPane, gameOverOverlay);
+    pieceLayer.visibleProperty().bind(boardGrid.visibleProperty());
     setCenter(centerStack);
 
     boardGrid.setVisible(false);
@@ -205,13 +212,36 @@ public class QuizGameView extends BorderPane {
       }
     });
 
-    VBox rightPanel = new VBox(30, diceBox, rollBox, playerListBox, backButton);
+    Button saveButton = new Button("Save");
+    saveButton.getStyleClass().add("button-main-player");
+    saveButton.setOnAction(e -> {
+      if (observer != null) {
+        observer.onSaveGame();
+      }
+    });
+    Button loadButton = new Button("Load");
+    loadButton.getStyleClass().add("button-main-player");
+    loadButton.setOnAction(e -> {
+      if (observer != null) {
+        observer.onLoadGame();
+      }
+    });
+    HBox saveBox = new HBox(10, saveButton, loadButton);
+    saveBox.setAlignment(Pos.CENTER_RIGHT);
+
+    VBox rightPanel = new VBox(30, diceBox, rollBox, playerListBox, saveBox, backButton);
     rightPanel.setAlignment(Pos.TOP_RIGHT);
     rightPanel.setPadding(new Insets(10));
     setRight(rightPanel);
 
     fullscreenHandler.setupFullscreenHandling(this);
 
+    // Moves are animated, and every game event asks for a render, so a turn of many steps is
+    // rendered once
+    game.addListener(event -> {
+      pieceLayer.animate(event);
+      renderPulse.request();
+    });
     updateView();
   }
 
@@ -225,58 +255,14 @@ public class QuizGameView extends BorderPane {
         current != null ? "Current: " + current.getName() : "Current: -"
     );
 
-    try {
-      if (game.getDice() != null) {
-        var diceVals = game.getDice().getDiceValues();
-        if (diceVals.size() >= 2) {
-          updateDice(diceVals.get(0), diceVals.get(1));
-        }
-      }
-    } catch (model.exception.InvalidDiceRollException ignored) {
-    }
-
-    boardGrid.getChildren().forEach(node -> {
-      if (node instanceof Label lbl) {
-        lbl.setStyle("");
-        lbl.setGraphic(null);
-      }
-    });
-
-    if (current != null) {
-      String id = String.valueOf(current.getCurrentTile().getTileId());
-      boardGrid.getChildren().stream()
-          .filter(n -> n instanceof Label)
-          .map(n -> (Label) n)
-          .filter(l -> l.getText().equals(id))
-          .findFirst()
-          .ifPresent(l -> l.setStyle(
-              "-fx-background-color: linear-gradient(to bottom, rgba(255,255,255,1) 0%,rgba(255,255,255,0) 100%);"));
-    }
-
-    for (Player p : players) {
-      String id = String.valueOf(p.getCurrentTile().getTileId());
-      boardGrid.getChildren().stream()
-          .filter(n -> n instanceof Label)
-          .map(n -> (Label) n)
-          .filter(l -> l.getText().equals(id))
-          .findFirst()
-          .ifPresent(l -> {
-            ImageView iv = new ImageView(PieceImageLoader.get(p.getPiece()));
-            iv.setFitWidth(24);
-            iv.setFitHeight(24);
-            iv.setPreserveRatio(true);
-            l.setGraphic(iv);
-          });
+    Dice dice = game.getDice();
+    if (dice != null && dice.hasBeenRolled() && dice.getNumberOfDice() >= 2) {
+      updateDice(dice.getValue(0), dice.getValue(1));
     }
 
-    playerListBox.getChildren().clear();
-    Label hdr = new Label("Players:");
-    hdr.getStyleClass().addAll("label-sub", "label-list-header");
-    playerListBox.getChildren().add(hdr);
-    for (Player p : players) {
-      boolean isCurr = p == current;
-      playerListBox.getChildren().add(makePlayerListItem(p, isCurr));
-    }
+    cells.highlight(current);
+    pieceLayer.update(players);
+    playerListBox.update(players, current);
   }
 
   /**
@@ -289,6 +275,43 @@ public class QuizGameView extends BorderPane {
     quizPane.setVisible(false);
   }
 
+  /**
+   * Shows the board of a game that has been loaded, with no question open, and lets the current
+   * player roll.
+   */
+  public void showLoadedGame() {
+    gameOverOverlay.hide();
+    showGame();
+    hideQuestion();
+    updateView();
+  }
+
+  /**
+   * Shows the game over overlay on top of the board and disables rolling. Returns at once.
+   *
+   * @param message the result of the game, e.g. who won
+   * @return a future completed on the JavaFX application thread with the choice of the user
+   */
+  public CompletableFuture<GameOverOverlay.Choice> showGameOver(String message) {
+    rollButton.setDisable(true);
+    return gameOverOverlay.show(message);
+  }
+
+  /**
+   * Resets the view for a new game with the same players, going back to the category choice.
+   * The board, pieces and player list are kept and updated in place.
+   */
+  public void reset() {
+    gameOverOverlay.hide();
+    categoryPane.setVisible(true);
+    boardGrid.setVisible(false);
+    quizPane.setVisible(false);
+    rollButton.setDisable(true);
+    skipButton.setDisable(true);
+    updateDice(1, 1);
+    updateView();
+  }
+
   private VBox createInstructionsBox() {
     VBox instructionsBox = new VBox(8);
     instructionsBox.setPadding(new Insets(10));
@@ -341,25 +364,6 @@ public class QuizGameView extends BorderPane {
     return pointContainer;
   }
 
-  private Node makePlayerListItem(Player player, boolean isCurrent) {
-    ImageView imageView = new ImageView(PieceImageLoader.get(player.getPiece()));
-    imageView.setFitWidth(24);
-    imageView.setFitHeight(24);
-    imageView.setPreserveRatio(true);
-
-    int score = player.getScore();
-    String text = player.getName() + ": " + score + (score == 1 ? " point" : " points");
-
-    Label label = new Label(text, imageView);
-    label.setContentDisplay(ContentDisplay.LEFT);
-    label.setGraphicTextGap(8);
-    label.getStyleClass().add("label-sub");
-    if (isCurrent) {
-      label.getStyleClass().add("label-bold");
-    }
-    return label;
-  }
-
   /**
    * Setter for the observer.
    *
@@ -390,6 +394,17 @@ public class QuizGameView extends BorderPane {
     quizPane.setVisible(true);
   }
 
+  /**
+   * Returns a future that completes on the JavaFX application thread when the piece of a player
+   * has finished its move on the board, or at once if it is standing still.
+   *
+   * @param player the player
+   * @return a future that completes when the piece stops
+   */
+  public CompletableFuture<Void> whenPieceStops(Player player) {
+    return pieceLayer.whenStopped(player);
+  }
+
   /**
    * Hides the question pane and shows the game board.
    */
@@ -415,6 +430,7 @@ public class QuizGameView extends BorderPane {
    */
   private void buildBoardGrid() {
     boardGrid.getChildren().clear();
+    cells.clear();
     boardGrid.setGridLinesVisible(false);
     boardGrid.setAlignment(Pos.CENTER);
 
@@ -432,7 +448,10 @@ public class QuizGameView extends BorderPane {
       }
 
       boardGrid.add(cell, col, ROWS - 1 - row);
+      cells.put(id, cell);
     }
+    // The new labels are laid out before the pieces on the next pulse
+    pieceLayer.requestLayout();
   }
 
   /**
@@ -442,8 +461,8 @@ public class QuizGameView extends BorderPane {
    * @param die2Value the value of the second die
    */
   public void updateDice(int die1Value, int die2Value) {
-    die1.setImage(diceImages[die1Value]);
-    die2.setImage(diceImages[die2Value]);
+    die1.setImage(SpriteAtlas.diceFace(die1Value));
+    die2.setImage(SpriteAtlas.diceFace(die2Value));
   }
 }
 
@@ -0,0 +1,38 @@
+package view;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Runs a render at most once per JavaFX pulse, however many times it is requested.
+ *
+ * <p>Game events can arrive many times during one turn, for example once per step. Each of
+ * them only requests a render, and the render runs once on the next pulse, before the scene is
+ * drawn.</p>
+ */
+class RenderPulse {
+
+  private final AnimationTimer timer;
+
+  /**
+   * Constructor for RenderPulse.
+   *
+   * @param render the render to run
+   */
+  RenderPulse(Runnable render) {
+    this.timer = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        stop();
+        render.run();
+      }
+    };
+  }
+
+  /**
+   * Requests a render on the next pulse. Requests before that pulse are merged into one render.
+   */
+  void request() {
+    timer.start();
+  }
+
+}
@@ -0,0 +1,113 @@
+package view;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import model.util.PieceImageLoader;
+
+/**
+ * The dice faces and piece icons shown by all game views.
+ *
+ * <p>Every image is decoded or drawn once for the whole application and then shared, so building
+ * a new game screen does not decode any images. Pieces are kept at each size they are shown in,
+ * which are the sizes in {@link PieceImageLoader}, and are never dropped. Faces that have an image
+ * in the resources use it, and faces above that, for dice with more than six sides, are drawn as
+ * a die with the number on it. Faces up to {@link #MAX_CACHED_FACE} are kept, and higher faces
+ * are drawn each time. Drawing a face uses a snapshot, so faces without an image must first be
+ * asked for on the JavaFX application thread.</p>
+ */
+public final class SpriteAtlas {
+
+  /** The width and height of the dice faces. */
+  public static final int DICE_SIZE = PieceImageLoader.LARGE_SIZE;
+
+  /** The highest dice face that is kept once drawn. */
+  public static final int MAX_CACHED_FACE = 100;
+
+  private static final AtomicReferenceArray<Image> diceFaces =
+      new AtomicReferenceArray<>(MAX_CACHED_FACE + 1);
+  private static final Map<String, Image> pieces = new ConcurrentHashMap<>();
+
+  private SpriteAtlas() {
+  }
+
+  /**
+   * Returns the image of a dice face.
+   *
+   * @param face the face, starting at 1
+   * @return the shared image of the face
+   * @throws IllegalArgumentException if the face is less than 1
+   */
+  public static Image diceFace(int face) {
+    if (face < 1) {
+      throw new IllegalArgumentException("Dice face must be at least 1, was " + face);
+    }
+    Image image = face <= MAX_CACHED_FACE ? diceFaces.get(face) : null;
+    if (image != null) {
+      return image;
+    }
+    // Loaded or drawn without holding a lock; if two threads race, both images are the same
+    image = PieceImageLoader.getDiceFace(face, DICE_SIZE);
+    if (image == null) {
+      image = drawDiceFace(face);
+    }
+    if (face <= MAX_CACHED_FACE && !diceFaces.compareAndSet(face, null, image)) {
+      image = diceFaces.get(face);
+    }
+    return image;
+  }
+
+  /**
+   * Returns the icon of a game piece.
+   *
+   * @param piece the piece, e.g. "Car"
+   * @param size  the width and height of the icon
+   * @return the shared image of the piece, or null if there is no image for it
+   */
+  public static Image piece(String piece, int size) {
+    String key = piece + "@" + size;
+    Image image = pieces.get(key);
+    if (image == null) {
+      image = PieceImageLoader.get(piece, size);
+      if (image != null) {
+        Image shared = pieces.putIfAbsent(key, image);
+        image = shared != null ? shared : image;
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Draws a die with the face number on it, for faces without an image.
+   */
+  private static Image drawDiceFace(int face) {
+    Canvas canvas = new Canvas(DICE_SIZE, DICE_SIZE);
+    GraphicsContext graphicsContext = canvas.getGraphicsContext2D();
+    double arc = DICE_SIZE * 0.25;
+
+    graphicsContext.setFill(Color.WHITE);
+    graphicsContext.fillRoundRect(1, 1, DICE_SIZE - 2, DICE_SIZE - 2, arc, arc);
+    graphicsContext.setStroke(Color.BLACK);
+    graphicsContext.setLineWidth(2);
+    graphicsContext.strokeRoundRect(1, 1, DICE_SIZE - 2, DICE_SIZE - 2, arc, arc);
+
+    graphicsContext.setFill(Color.BLACK);
+    graphicsContext.setFont(Font.font("System", FontWeight.BOLD, DICE_SIZE * 0.45));
+    graphicsContext.setTextAlign(TextAlignment.CENTER);
+    graphicsContext.setTextBaseline(VPos.CENTER);
+    graphicsContext.fillText(String.valueOf(face), DICE_SIZE / 2.0, DICE_SIZE / 2.0);
+
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    return canvas.snapshot(parameters, null);
+  }
+}
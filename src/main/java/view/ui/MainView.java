@@ -1,7 +1,12 @@
 package view.ui;
 
+import controller.BoardGameViewController;
 import controller.MainViewController;
+import controller.QuizGameViewController;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javafx.animation.*;
 import javafx.application.Application;
 import javafx.geometry.Pos;
@@ -19,6 +24,8 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import model.logic.GameType;
 import model.util.FullscreenHandler;
+import model.util.PieceImageLoader;
+import model.util.TurnJournal;
 import view.AmountOfPlayersView;
 
 /**
@@ -30,6 +37,8 @@ public class MainView extends Application {
   private FullscreenHandler fullscreenHandler;
   private Pane animationLayer;
   private static MainView instance;
+  private static final Logger logger = Logger.getLogger(MainView.class.getName());
+  private static final long JOURNAL_CLOSE_SECONDS = 5;
 
   /**
    * Initializes the main view.
@@ -58,11 +67,37 @@ public class MainView extends Application {
     this.primaryStage = primaryStage;
     this.controller = new MainViewController();
     this.fullscreenHandler = new FullscreenHandler(primaryStage);
+    PieceImageLoader.preload();
 
     // Sets up the game selection screen
     showGameSelection();
 
     primaryStage.show();
+
+    // Goes straight back into a game that was cut off, e.g. by a power cut, unless the user has
+    // already left the start screen. Only one game can be resumed, so if a Snakes and Ladders
+    // game is, a cut off quiz game is dropped rather than offered at every start.
+    Scene startScene = primaryStage.getScene();
+    BoardGameViewController.resumeInterruptedGame(primaryStage, startScene, fullscreenHandler)
+        .thenAccept(resumed -> {
+          if (resumed) {
+            QuizGameViewController.discardInterruptedGame();
+          } else {
+            QuizGameViewController.resumeInterruptedGame(primaryStage, startScene,
+                fullscreenHandler);
+          }
+        });
+  }
+
+  /**
+   * Stops the JavaFX application. Waits for the turn journals to write what is left in them, so
+   * the last turns are not lost when the window is closed in the middle of a game.
+   */
+  @Override
+  public void stop() {
+    if (!TurnJournal.closeAll(JOURNAL_CLOSE_SECONDS, TimeUnit.SECONDS)) {
+      logger.log(Level.WARNING, "Turn journals were not written before exit");
+    }
   }
 
   /**
@@ -0,0 +1,78 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import model.logic.BoardConfigOptimizer;
+import model.logic.CompiledBoard;
+import model.logic.MarkovAnalyzer;
+import model.logic.OptimizationResult;
+import model.util.BoardConfigLoader;
+import model.util.BoardConfigLoader.TileConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardConfigOptimizerTest {
+
+  private static final String HARD = "config/snakes_and_ladders/sl_hard_config.json";
+
+  @TempDir
+  Path tempDir;
+
+  private double distanceToTarget(Map<Integer, TileConfig> config, double target) {
+    return Math.abs(new MarkovAnalyzer(2, 6)
+        .analyze(CompiledBoard.fromConfig(config, 12))
+        .getExpectedGameTurns(2) - target);
+  }
+
+  @Test
+  void testOptimizerMovesTowardsTarget() {
+    Map<Integer, TileConfig> start = BoardConfigLoader.loadConfig(HARD);
+    OptimizationResult result = new BoardConfigOptimizer(30, 0, 2, 2, 1, 2).optimize(start, 300);
+    assertTrue(result.getScore() < distanceToTarget(start, 30));
+    assertTrue(result.getCandidatesEvaluated() > 2 && result.getCandidatesEvaluated() <= 602);
+    assertEquals(start.size(), result.getConfig().size());
+  }
+
+  @Test
+  void testOptimizedLayoutKeepsActionKinds() {
+    Map<Integer, TileConfig> start = BoardConfigLoader.loadConfig(HARD);
+    OptimizationResult result = new BoardConfigOptimizer(20, 0.1, 2, 2, 5, 2).optimize(start, 300);
+    long ladders = start.entrySet().stream().filter(e -> e.getValue().to > e.getKey()).count();
+    long backToStart = start.values().stream().filter(c -> c.to == 1).count();
+    Map<Integer, TileConfig> config = result.getConfig();
+    assertEquals(ladders,
+        config.entrySet().stream().filter(e -> e.getValue().to > e.getKey()).count());
+    assertEquals(backToStart, config.values().stream().filter(c -> c.to == 1).count());
+    for (Map.Entry<Integer, TileConfig> entry : config.entrySet()) {
+      assertTrue(entry.getKey() > 1 && entry.getKey() < 90);
+      assertTrue(entry.getValue().to >= 1 && entry.getValue().to <= 90);
+    }
+  }
+
+  @Test
+  void testSameSeedFindsSameLayout() {
+    Map<Integer, TileConfig> start = BoardConfigLoader.loadConfig(HARD);
+    OptimizationResult first = new BoardConfigOptimizer(28, 0.1, 2, 2, 9, 2).optimize(start, 200);
+    OptimizationResult second = new BoardConfigOptimizer(28, 0.1, 2, 2, 9, 2).optimize(start, 200);
+    assertEquals(first.getScore(), second.getScore());
+    assertEquals(first.getConfig().keySet(), second.getConfig().keySet());
+  }
+
+  @Test
+  void testWrittenConfigCanBeReadBack() throws IOException {
+    Map<Integer, TileConfig> config = BoardConfigLoader.loadConfig(HARD);
+    Path file = tempDir.resolve("generated.json");
+    BoardConfigLoader.writeConfig(config, file);
+    try (InputStream in = Files.newInputStream(file)) {
+      Map<Integer, TileConfig> read = BoardConfigLoader.readConfig(in);
+      assertEquals(config.keySet(), read.keySet());
+      for (Integer from : config.keySet()) {
+        assertEquals(config.get(from).to, read.get(from).to);
+        assertEquals(config.get(from).message, read.get(from).message);
+      }
+    }
+  }
+}
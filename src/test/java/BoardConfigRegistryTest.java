@@ -0,0 +1,54 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import model.util.BoardConfigLoader;
+import model.util.BoardConfigLoader.TileConfig;
+import model.util.BoardConfigRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class BoardConfigRegistryTest {
+
+  private static final String EASY = "config/snakes_and_ladders/sl_easy_config.json";
+
+  @AfterEach
+  public void tearDown() {
+    BoardConfigRegistry.invalidateAll();
+  }
+
+  @Test
+  public void testConfigIsParsedOnce() {
+    Map<Integer, TileConfig> first = BoardConfigRegistry.get(EASY);
+    assertTrue(BoardConfigRegistry.isCached(EASY));
+    assertSame(first, BoardConfigRegistry.get(EASY));
+    assertEquals(BoardConfigLoader.loadConfig(EASY).keySet(), first.keySet());
+  }
+
+  @Test
+  public void testCachedConfigIsReadOnly() {
+    Map<Integer, TileConfig> config = BoardConfigRegistry.get(EASY);
+    assertThrows(UnsupportedOperationException.class,
+        () -> config.put(2, new TileConfig(3, "Up")));
+  }
+
+  @Test
+  public void testInvalidateReadsFileAgain() {
+    Map<Integer, TileConfig> first = BoardConfigRegistry.get(EASY);
+    BoardConfigRegistry.invalidate(EASY);
+    assertFalse(BoardConfigRegistry.isCached(EASY));
+    Map<Integer, TileConfig> second = BoardConfigRegistry.get(EASY);
+    assertNotSame(first, second);
+    assertEquals(first.keySet(), second.keySet());
+  }
+
+  @Test
+  public void testMissingConfigIsNotCached() {
+    assertTrue(BoardConfigRegistry.get("config/missing.json").isEmpty());
+    assertFalse(BoardConfigRegistry.isCached("config/missing.json"));
+  }
+}
@@ -3,7 +3,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import model.exception.BoardNotInitializedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
 import model.entity.BoardGame;
+import model.entity.GameEvent;
+import model.entity.LadderAction;
 import model.entity.Player;
 
 class BoardGameTest {
@@ -59,4 +63,77 @@ class BoardGameTest {
     Exception exception = assertThrows(BoardNotInitializedException.class, notInitializedGame::getWinner);
     assertEquals("Board must be created before checking for a winner.", exception.getMessage());
   }
+
+  @Test
+  void testResetStartsTheGameAgain() {
+    game.setCurrentPlayer(player2);
+    player1.setCurrentTile(game.getBoard().getTile(90));
+    player2.setScore(3);
+    game.getDice().rollDice();
+
+    game.reset();
+    assertNull(game.getWinner(), "No player should have won after a reset.");
+    assertEquals(1, player1.getCurrentTile().getTileId());
+    assertEquals(0, player2.getScore());
+    assertEquals(player1, game.getCurrentplayer());
+    assertFalse(game.getDice().hasBeenRolled(), "The dice should be cleared.");
+  }
+
+  @Test
+  void testTurnSendsEventsInOrder() {
+    game.getBoard().getTile(3).setTileAction(new LadderAction(40, "climbs"));
+    List<GameEvent> events = new ArrayList<>();
+    game.addListener(events::add);
+    game.setCurrentPlayer(player1);
+
+    game.movePlayer(player1, 2);
+    game.nextTurn();
+    game.nextTurn();
+
+    assertEquals(List.of(GameEvent.Type.TURN_CHANGED, GameEvent.Type.MOVED,
+            GameEvent.Type.LADDER, GameEvent.Type.TURN_CHANGED, GameEvent.Type.TURN_CHANGED),
+        events.stream().map(GameEvent::getType).toList());
+    GameEvent ladder = events.get(2);
+    assertEquals(3, ladder.getFromTileId());
+    assertEquals(40, ladder.getToTileId());
+    assertEquals(player1, events.get(4).getPlayer());
+  }
+
+  @Test
+  void testRollAndSnakeEvents() {
+    game.getBoard().getTile(10).setTileAction(new LadderAction(4, "slides"));
+    List<GameEvent> events = new ArrayList<>();
+    game.addListener(events::add);
+
+    int roll = game.rollDice();
+    game.movePlayer(player2, 9);
+
+    assertEquals(GameEvent.Type.ROLLED, events.get(0).getType());
+    assertEquals(roll, events.get(0).getValue());
+    assertEquals(GameEvent.Type.MOVED, events.get(1).getType());
+    assertEquals(GameEvent.Type.SNAKE, events.get(2).getType());
+    assertEquals(4, player2.getCurrentTile().getTileId());
+  }
+
+  @Test
+  void testChangeBoardKeepsPlayersInPlace() {
+    String hard = "config/snakes_and_ladders/sl_hard_config.json";
+    game.createBoard("snakesandladders", "config/snakes_and_ladders/sl_easy_config.json");
+    game.setPlayers(List.of(new Player("Player1", game.getBoard(), "Car"),
+        new Player("Player2", game.getBoard(), "Hat")));
+    Player second = game.getPlayers().get(1);
+    second.setCurrentTile(game.getBoard().getTile(17));
+    second.setScore(2);
+    game.setCurrentPlayer(second);
+
+    game.changeBoard(hard);
+    assertEquals(hard, game.getConfigPath());
+    Player moved = game.getPlayers().get(1);
+    assertSame(game.getBoard(), moved.getBoard());
+    assertEquals("Player2", moved.getName());
+    assertEquals(17, moved.getCurrentTile().getTileId());
+    assertSame(game.getBoard().getTile(17), moved.getCurrentTile());
+    assertEquals(2, moved.getScore());
+    assertSame(moved, game.getCurrentplayer());
+  }
 }
@@ -1,7 +1,9 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import model.entity.BackToStartAction;
 import model.entity.Board;
+import model.entity.LadderAction;
 import model.entity.Tile;
 import model.exception.BoardNotInitializedException;
 import java.util.Map;
@@ -55,4 +57,39 @@ public class BoardTest {
     assertEquals("Tile with ID 1 not found. Map size: 0", exception.getMessage());
   }
 
+  @Test
+  public void testGetTilesIsReadOnly() {
+    Board board = new Board();
+    board.addTile(new Tile(1));
+    Map<Integer, Tile> tiles = board.getTiles();
+    assertThrows(UnsupportedOperationException.class, () -> tiles.put(2, new Tile(2)));
+  }
+
+  @Test
+  public void testGetTilesReflectsLaterTiles() {
+    Board board = new Board();
+    Map<Integer, Tile> tiles = board.getTiles();
+    board.addTile(new Tile(200));
+    assertEquals(1, tiles.size());
+    assertEquals(200, tiles.keySet().iterator().next());
+    assertEquals(200, board.getTile(200).getTileId());
+  }
+
+  @Test
+  public void testJumpDestinationFollowsTileActions() {
+    Board board = new Board();
+    for (int i = 1; i <= 90; i++) {
+      board.addTile(new Tile(i));
+    }
+    board.getTile(3).setTileAction(new LadderAction(40, "up"));
+    board.getTile(60).setTileAction(new BackToStartAction(1, "back"));
+    board.getTile(88).setTileAction(new LadderAction(120, "too far"));
+    assertEquals(40, board.getJumpDestination(3));
+    assertEquals(1, board.getJumpDestination(60));
+    assertEquals(90, board.getJumpDestination(88));
+    assertEquals(10, board.getJumpDestination(10));
+
+    board.getTile(3).setTileAction(null);
+    assertEquals(3, board.getJumpDestination(3));
+  }
 }
@@ -0,0 +1,67 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.entity.Board;
+import model.entity.BoardGame;
+import model.entity.Player;
+import model.logic.CompiledBoard;
+import org.junit.jupiter.api.Test;
+
+class CompiledBoardTest {
+
+  private static final String EASY = "config/snakes_and_ladders/sl_easy_config.json";
+  private static final String HARD = "config/snakes_and_ladders/sl_hard_config.json";
+
+  private void assertMatchesObjectGraph(String configPath) {
+    BoardGame game = new BoardGame();
+    game.createBoard("snakesandladders", configPath);
+    Board board = game.getBoard();
+    CompiledBoard compiled = CompiledBoard.compile(board, 12);
+    Player player = new Player("TestPlayer", board, "Car");
+
+    for (int tileId = 1; tileId <= 90; tileId++) {
+      for (int roll = 0; roll <= 12; roll++) {
+        player.setCurrentTile(board.getTile(tileId));
+        player.move(roll);
+        assertEquals(player.getCurrentTile().getTileId(), compiled.next(tileId, roll),
+            "Tile " + tileId + " with roll " + roll);
+      }
+    }
+  }
+
+  @Test
+  void testEasyConfigMatchesObjectGraph() {
+    assertMatchesObjectGraph(EASY);
+  }
+
+  @Test
+  void testHardConfigMatchesObjectGraph() {
+    assertMatchesObjectGraph(HARD);
+  }
+
+  @Test
+  void testConfigBoardIsFullyCompiled() {
+    assertTrue(CompiledBoard.fromConfig(EASY, 12).isFullyCompiled());
+  }
+
+  @Test
+  void testCustomActionFallsBackToObjectGraph() {
+    BoardGame game = new BoardGame();
+    game.createBoard("snakesandladders");
+    Board board = game.getBoard();
+    board.getTile(7).setTileAction(p -> p.setCurrentTile(board.getTile(50)));
+    CompiledBoard compiled = CompiledBoard.compile(board, 12);
+    assertFalse(compiled.isFullyCompiled());
+    assertEquals(CompiledBoard.FALLBACK, compiled.next(1, 6));
+
+    Player player = new Player("TestPlayer", board, "Car");
+    compiled.move(player, 6);
+    assertEquals(50, player.getCurrentTile().getTileId());
+  }
+
+  @Test
+  void testRollOutsideTableFallsBack() {
+    CompiledBoard compiled = CompiledBoard.fromConfig(EASY, 6);
+    assertEquals(CompiledBoard.FALLBACK, compiled.next(1, 7));
+    assertEquals(CompiledBoard.FALLBACK, compiled.next(1, -1));
+  }
+}
@@ -1,5 +1,7 @@
 import model.entity.Dice;
 import model.exception.InvalidDiceRollException;
+import model.factory.DiceFactory;
+import model.util.ScriptedRandom;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -78,4 +80,70 @@ public class DiceTest {
 
     assertTrue(changed, "Dice rolls should produce different sums over multiple attempts.");
   }
+
+  @Test
+  public void testScriptedDiceRollScriptedFaces() {
+    Dice dice = DiceFactory.scripted(2, 6, 3, 5, 6, 1);
+    assertEquals(8, dice.rollDice());
+    assertEquals(List.of(3, 5), dice.getDiceValues());
+    assertEquals(7, dice.rollDice());
+    assertEquals(8, dice.rollDice());
+  }
+
+  @Test
+  public void testSeededDiceAreReproducible() {
+    Dice first = DiceFactory.create(2, 6, "Xoroshiro128PlusPlus", 99);
+    Dice second = DiceFactory.create(2, 6, "Xoroshiro128PlusPlus", 99);
+    for (int i = 0; i < 50; i++) {
+      assertEquals(first.rollDice(), second.rollDice());
+    }
+  }
+
+  @Test
+  public void testSetRandomChangesAllDice() {
+    Dice dice = new Dice(3, 6);
+    dice.setRandom(new ScriptedRandom(4));
+    assertEquals(12, dice.rollDice());
+  }
+
+  @Test
+  public void testScriptedFaceLargerThanSidesThrowsException() {
+    Dice dice = DiceFactory.scripted(1, 6, 7);
+    Exception exception = assertThrows(InvalidDiceRollException.class, dice::rollDice);
+    assertEquals("Scripted face 7 is larger than 6 sides", exception.getMessage());
+  }
+
+  @Test
+  public void testUnknownAlgorithmThrowsException() {
+    assertThrows(IllegalArgumentException.class, () -> DiceFactory.create(2, 6, "NoSuchRandom"));
+  }
+
+  @Test
+  public void testGetDiceValuesIntoArray() {
+    Dice dice = DiceFactory.scripted(3, 6, 2, 6, 2);
+    int[] values = new int[4];
+    assertFalse(dice.hasBeenRolled());
+    assertEquals(0, dice.getDiceValues(values));
+
+    dice.rollDice();
+    assertTrue(dice.hasBeenRolled());
+    assertEquals(3, dice.getDiceValues(values));
+    assertArrayEquals(new int[] {2, 6, 2, 0}, values);
+    assertEquals(6, dice.getValue(1));
+    assertThrows(IllegalArgumentException.class, () -> dice.getDiceValues(new int[2]));
+  }
+
+  @Test
+  public void testFaceCountsOfLastRoll() {
+    Dice dice = DiceFactory.scripted(3, 6, 2, 6, 2, 1, 1, 1);
+    dice.rollDice();
+    assertEquals(2, dice.getFaceCount(2));
+    assertEquals(1, dice.getFaceCount(6));
+    assertEquals(0, dice.getFaceCount(1));
+
+    dice.rollDice();
+    assertEquals(3, dice.getFaceCount(1));
+    assertEquals(0, dice.getFaceCount(2));
+    assertEquals(0, dice.getFaceCount(7));
+  }
 }
@@ -0,0 +1,56 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import model.entity.BoardGame;
+import model.factory.BoardGameFactory;
+import model.logic.GameSimulator;
+import model.logic.SimulationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameSimulatorTest {
+
+  private BoardGame game;
+
+  @BeforeEach
+  void setUp() {
+    game = BoardGameFactory.createSnakesAndLadders(2);
+  }
+
+  @Test
+  void testSimulatorAddsPlayers() {
+    new GameSimulator(game, 3);
+    assertEquals(3, game.getPlayers().size());
+  }
+
+  @Test
+  void testAllGamesAreAccountedFor() {
+    SimulationResult result = new GameSimulator(game, 2).run(1000);
+    assertEquals(1000, result.getGames());
+    long wins = Arrays.stream(result.getWinsBySeat()).sum();
+    assertEquals(1000, wins + result.getUnfinishedGames());
+  }
+
+  @Test
+  void testGameLengthIsWithinBounds() {
+    SimulationResult result = new GameSimulator(game, 2).run(500);
+    assertTrue(result.getMinTurns() >= 1);
+    assertTrue(result.getMaxTurns() >= result.getMinTurns());
+    assertTrue(result.getAverageTurns() >= result.getMinTurns());
+  }
+
+  @Test
+  void testTurnLimitStopsGames() {
+    SimulationResult result = new GameSimulator(game, 2, 1).run(100);
+    assertEquals(100, result.getTurns());
+  }
+
+  @Test
+  void testSimulatorWithoutDiceThrowsException() {
+    BoardGame noDice = new BoardGame();
+    noDice.createBoard("snakesandladders");
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new GameSimulator(noDice, 2));
+    assertEquals("Dice must be created before simulating.", exception.getMessage());
+  }
+}
@@ -0,0 +1,150 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import model.entity.BoardGame;
+import model.entity.Dice;
+import model.entity.Player;
+import model.exception.InvalidSnapshotException;
+import model.factory.BoardGameFactory;
+import model.util.GameSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GameSnapshotTest {
+
+  private static final String CONFIG = "config/snakes_and_ladders/sl_easy_config.json";
+
+  private BoardGame game;
+
+  @TempDir
+  Path dir;
+
+  @BeforeEach
+  public void setUp() {
+    game = BoardGameFactory.createSnakesAndLadders(2);
+    Player alice = new Player("Alice", game.getBoard(), "Car");
+    Player bob = new Player("Bob", game.getBoard(), "Hat");
+    game.addPlayer(alice);
+    game.addPlayer(bob);
+    game.setCurrentPlayer(bob);
+    alice.setCurrentTile(game.getBoard().getTile(42));
+    bob.setCurrentTile(game.getBoard().getTile(7));
+    bob.setScore(3);
+    game.getDice().setDiceValues(new int[] {4, 6});
+  }
+
+  private ByteBuffer snapshot() {
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    GameSnapshot.write(game, CONFIG, buffer);
+    return buffer.flip();
+  }
+
+  @Test
+  public void testRestoreGivesSameGame() {
+    ByteBuffer buffer = snapshot();
+    assertTrue(buffer.remaining() < 100, "Snapshot was " + buffer.remaining() + " bytes");
+
+    BoardGame restored = BoardGameFactory.createSnakesAndLadders(2);
+    assertEquals(CONFIG, GameSnapshot.restore(buffer, restored));
+
+    assertEquals(2, restored.getPlayers().size());
+    Player alice = restored.getPlayers().get(0);
+    Player bob = restored.getPlayers().get(1);
+    assertEquals("Alice", alice.getName());
+    assertEquals("Car", alice.getPiece());
+    assertEquals(42, alice.getCurrentTile().getTileId());
+    assertEquals(7, bob.getCurrentTile().getTileId());
+    assertEquals(3, bob.getScore());
+    assertSame(bob, restored.getCurrentplayer());
+    assertSame(restored.getBoard(), alice.getBoard());
+    assertArrayEquals(new int[] {4, 6},
+        new int[] {restored.getDice().getValue(0), restored.getDice().getValue(1)});
+    assertEquals(10, restored.getDice().getSum());
+  }
+
+  @Test
+  public void testRestoredGameRollsTheSameNumbers() {
+    BoardGame restored = BoardGameFactory.createSnakesAndLadders(2);
+    GameSnapshot.restore(snapshot(), restored);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(game.getDice().rollDice(), restored.getDice().rollDice());
+    }
+  }
+
+  @Test
+  public void testInvalidSnapshotLeavesGameUnchanged() {
+    ByteBuffer buffer = snapshot();
+    buffer.limit(buffer.limit() - 3);
+    BoardGame other = BoardGameFactory.createSnakesAndLadders(2);
+    other.addPlayer(new Player("Carol", other.getBoard(), "Dog"));
+
+    assertThrows(InvalidSnapshotException.class, () -> GameSnapshot.restore(buffer, other));
+    assertEquals(1, other.getPlayers().size());
+    assertEquals("Carol", other.getPlayers().getFirst().getName());
+  }
+
+  @Test
+  public void testHugeSidesAreRejected() {
+    ByteBuffer buffer = snapshot();
+    // Magic, version, type, the configuration ID, the seed and the number of dice come first
+    int sidesAt = 4 + 1 + CONFIG.length() + 8 + 1;
+    ByteBuffer damaged = ByteBuffer.allocate(buffer.remaining() + 4);
+    damaged.put(buffer.duplicate().limit(sidesAt));
+    damaged.put(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+    damaged.put(buffer.position(sidesAt + 1));
+    damaged.flip();
+
+    BoardGame other = BoardGameFactory.createSnakesAndLadders(2);
+    Dice dice = other.getDice();
+    InvalidSnapshotException e = assertThrows(InvalidSnapshotException.class,
+        () -> GameSnapshot.restore(damaged, other));
+    assertEquals("Invalid dice in saved game", e.getMessage());
+    assertSame(dice, other.getDice());
+    assertEquals(6, other.getDice().getSides());
+  }
+
+  @Test
+  public void testWrongGameTypeIsRejected() {
+    BoardGame quiz = BoardGameFactory.createQuizGame(2);
+    assertThrows(InvalidSnapshotException.class, () -> GameSnapshot.restore(snapshot(), quiz));
+    ByteBuffer garbage = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+    assertThrows(InvalidSnapshotException.class, () -> GameSnapshot.restore(garbage, quiz));
+  }
+
+  @Test
+  public void testSaveAndLoadFile() throws IOException {
+    Path file = dir.resolve("game.sav");
+    GameSnapshot.save(game, null, file);
+
+    BoardGame restored = BoardGameFactory.createSnakesAndLadders(2);
+    assertNull(GameSnapshot.load(file, restored));
+    assertEquals(42, restored.getPlayers().getFirst().getCurrentTile().getTileId());
+  }
+
+  @Test
+  public void testSaveAndReadInBackground() {
+    Path file = dir.resolve("game.sav");
+    GameSnapshot.saveInBackground(game, CONFIG, file).join();
+
+    BoardGame restored = BoardGameFactory.createSnakesAndLadders(2);
+    ByteBuffer snapshot = GameSnapshot.readInBackground(file).join();
+    assertEquals(CONFIG, GameSnapshot.restore(snapshot, restored));
+    assertEquals(7, restored.getPlayers().get(1).getCurrentTile().getTileId());
+  }
+
+  @Test
+  public void testMissingFileFailsInBackground() {
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> GameSnapshot.readInBackground(dir.resolve("missing.sav")).join());
+    assertTrue(e.getCause() instanceof IOException);
+  }
+}
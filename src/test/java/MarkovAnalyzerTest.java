@@ -0,0 +1,68 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.entity.Board;
+import model.entity.BoardGame;
+import model.entity.Tile;
+import model.factory.BoardGameFactory;
+import model.logic.BoardAnalysis;
+import model.logic.GameSimulator;
+import model.logic.MarkovAnalyzer;
+import model.logic.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+class MarkovAnalyzerTest {
+
+  private static final String EASY = "config/snakes_and_ladders/sl_easy_config.json";
+
+  @Test
+  void testRollDistributionOfTwoDice() {
+    double[] distribution = new MarkovAnalyzer(2, 6).getRollDistribution();
+    assertEquals(13, distribution.length);
+    assertEquals(0, distribution[1]);
+    assertEquals(6 / 36.0, distribution[7], 1e-12);
+    assertEquals(1 / 36.0, distribution[12], 1e-12);
+  }
+
+  @Test
+  void testTwoTileBoardFinishesInOneTurn() {
+    Board board = new Board();
+    board.addTile(new Tile(1));
+    board.addTile(new Tile(2));
+    BoardAnalysis analysis = new MarkovAnalyzer(1, 6).analyze(board);
+    assertEquals(1.0, analysis.getExpectedTurns(), 1e-12);
+    assertEquals(0.0, analysis.getVariance(), 1e-12);
+    assertEquals(1.0, analysis.getProbabilityOfFinishingOn(1), 1e-12);
+  }
+
+  @Test
+  void testTurnDistributionSumsToOne() {
+    BoardGame game = BoardGameFactory.createSnakesAndLadders(2);
+    BoardAnalysis analysis = MarkovAnalyzer.forGame(game).analyze(game.getBoard());
+    assertEquals(1.0, analysis.getProbabilityFinishedBy(analysis.getMaxTurn()), 1e-9);
+    assertTrue(analysis.getUnfinishedProbability() < 1e-9);
+    assertEquals(1.0, analysis.getExpectedVisits(90), 1e-9);
+  }
+
+  @Test
+  void testExpectedGameLengthMatchesSimulation() {
+    BoardGame game = BoardGameFactory.create("snakesandladders", EASY, 2);
+    BoardAnalysis analysis = MarkovAnalyzer.forGame(game).analyze(game.getBoard());
+    SimulationResult result = new GameSimulator(game, 2).run(200_000);
+    assertEquals(analysis.getExpectedGameTurns(2), result.getAverageTurns(), 0.2);
+  }
+
+  @Test
+  void testSinglePlayerGameTurnsEqualExpectedTurns() {
+    BoardGame game = BoardGameFactory.createSnakesAndLadders(2);
+    BoardAnalysis analysis = MarkovAnalyzer.forGame(game).analyze(game.getBoard());
+    assertEquals(analysis.getExpectedTurns(), analysis.getExpectedGameTurns(1), 1e-9);
+  }
+
+  @Test
+  void testCustomActionCannotBeAnalyzed() {
+    BoardGame game = BoardGameFactory.createSnakesAndLadders(2);
+    game.getBoard().getTile(5).setTileAction(p -> { });
+    assertThrows(IllegalArgumentException.class,
+        () -> MarkovAnalyzer.forGame(game).analyze(game.getBoard()));
+  }
+}
@@ -0,0 +1,40 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.logic.ParallelGameSimulator;
+import model.logic.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+class ParallelGameSimulatorTest {
+
+  private static final String CONFIG = "config/snakes_and_ladders/sl_easy_config.json";
+
+  @Test
+  void testAllGamesArePlayed() {
+    SimulationResult result = new ParallelGameSimulator(CONFIG, 2, 2, 42, 2).run(25_000);
+    assertEquals(25_000, result.getGames());
+  }
+
+  @Test
+  void testSameSeedGivesSameResultForAnyThreadCount() {
+    SimulationResult single = new ParallelGameSimulator(CONFIG, 3, 2, 7, 1).run(30_000);
+    SimulationResult multi = new ParallelGameSimulator(CONFIG, 3, 2, 7, 4).run(30_000);
+    assertEquals(single.getTurns(), multi.getTurns());
+    assertArrayEquals(single.getWinsBySeat(), multi.getWinsBySeat());
+    assertEquals(single.getLadders(), multi.getLadders());
+    assertEquals(single.getSnakes(), multi.getSnakes());
+  }
+
+  @Test
+  void testDifferentSeedsGiveDifferentResults() {
+    SimulationResult first = new ParallelGameSimulator(CONFIG, 2, 2, 1, 2).run(20_000);
+    SimulationResult second = new ParallelGameSimulator(CONFIG, 2, 2, 2, 2).run(20_000);
+    assertNotEquals(first.getTurns(), second.getTurns());
+  }
+
+  @Test
+  void testInvalidThreadCountThrowsException() {
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new ParallelGameSimulator(CONFIG, 2, 2, 1, 0));
+    assertEquals("Number of threads must be greater than 0", exception.getMessage());
+  }
+}
@@ -0,0 +1,59 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import model.util.PieceImageLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PieceImageLoaderTest {
+
+  @AfterEach
+  public void tearDown() {
+    PieceImageLoader.clear();
+  }
+
+  @Test
+  public void testMissingImageIsLookedUpOnce() {
+    assertNull(PieceImageLoader.get("Unicorn", PieceImageLoader.SMALL_SIZE));
+    assertNull(PieceImageLoader.get("unicorn", PieceImageLoader.SMALL_SIZE));
+    assertEquals(1, PieceImageLoader.getMissCount());
+    assertEquals(1, PieceImageLoader.getHitCount());
+    assertEquals(1, PieceImageLoader.getCachedCount());
+  }
+
+  @Test
+  public void testSizesAreCachedSeparately() {
+    PieceImageLoader.get("Unicorn", PieceImageLoader.SMALL_SIZE);
+    PieceImageLoader.get("Unicorn", PieceImageLoader.LARGE_SIZE);
+    assertEquals(2, PieceImageLoader.getMissCount());
+    assertEquals(0, PieceImageLoader.getHitCount());
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    for (int size = 1; PieceImageLoader.getMissCount() < 2L * PieceImageLoader.MAX_CACHED_IMAGES;
+        size++) {
+      for (int face = 1; face <= 6; face++) {
+        PieceImageLoader.getDiceFace(face, size);
+      }
+    }
+    assertEquals(PieceImageLoader.MAX_CACHED_IMAGES, PieceImageLoader.getCachedCount());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedImageIsDropped() {
+    PieceImageLoader.get("Car", PieceImageLoader.SMALL_SIZE);
+    for (int size = 1; size <= PieceImageLoader.MAX_CACHED_IMAGES; size++) {
+      PieceImageLoader.getDiceFace(1, size);
+      // Keeps the piece in use while the cache fills up
+      PieceImageLoader.get("Car", PieceImageLoader.SMALL_SIZE);
+    }
+    long misses = PieceImageLoader.getMissCount();
+
+    PieceImageLoader.get("Car", PieceImageLoader.SMALL_SIZE);
+    PieceImageLoader.getDiceFace(1, PieceImageLoader.MAX_CACHED_IMAGES);
+    assertEquals(misses, PieceImageLoader.getMissCount());
+    PieceImageLoader.getDiceFace(1, 1);
+    assertEquals(misses + 1, PieceImageLoader.getMissCount());
+  }
+}
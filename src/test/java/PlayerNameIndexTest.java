@@ -0,0 +1,61 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import controller.PlayerNameIndex;
+import controller.PlayerRecord;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PlayerNameIndexTest {
+
+  private static List<String> names(List<PlayerRecord> players) {
+    List<String> names = new ArrayList<>();
+    for (PlayerRecord player : players) {
+      names.add(player.name());
+    }
+    return names;
+  }
+
+  @Test
+  public void testSuggestIgnoresCaseAndKeepsOrder() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    index.addAll(List.of(new PlayerRecord("bob", "Hat"), new PlayerRecord("Alice", "Car"),
+        new PlayerRecord("albert", "Dog"), new PlayerRecord("Carol", "Ship")));
+
+    assertEquals(List.of("albert", "Alice"), names(index.suggest("AL", 10)));
+    assertEquals(List.of("albert"), names(index.suggest("al", 1)));
+    assertEquals(List.of("albert", "Alice", "bob", "Carol"), names(index.suggest("", 10)));
+    assertTrue(index.suggest("z", 10).isEmpty());
+  }
+
+  @Test
+  public void testGetMatchesExactName() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    index.add(new PlayerRecord("Alice", "Car"));
+    index.add(new PlayerRecord("alice", "Dog"));
+
+    assertEquals("Car", index.get("Alice").piece());
+    assertEquals("Dog", index.get("alice").piece());
+    assertNull(index.get("ALICE"));
+  }
+
+  @Test
+  public void testAddsAreMergedInOrder() {
+    PlayerNameIndex index = new PlayerNameIndex();
+    List<PlayerRecord> batch = new ArrayList<>();
+    for (int i = 0; i < 5000; i += 2) {
+      batch.add(new PlayerRecord(String.format("p%05d", i), "Car"));
+    }
+    index.addAll(batch);
+    for (int i = 1; i < 5000; i += 2) {
+      index.add(new PlayerRecord(String.format("p%05d", i), "Hat"));
+    }
+
+    assertEquals(5000, index.size());
+    assertEquals(List.of("p04990", "p04991", "p04992"), names(index.suggest("p0499", 3)));
+    assertEquals("Hat", index.get("p01235").piece());
+    assertEquals("Car", index.get("p01234").piece());
+  }
+}
@@ -0,0 +1,128 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import controller.PlayerRecord;
+import controller.PlayerRoster;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PlayerRosterTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  public void testLoadKeepsFirstOfEachName() throws IOException {
+    Path file = dir.resolve("players.csv");
+    Files.writeString(file, "name,piece\nAlice,Car\n\nBob,Hat\nAlice,Dog\nbroken\n");
+
+    PlayerRoster roster = new PlayerRoster(file);
+    assertEquals(2, roster.load());
+    assertEquals("Car", roster.get("Alice").piece());
+    assertEquals(List.of(new PlayerRecord("Alice", "Car"), new PlayerRecord("Bob", "Hat")),
+        roster.getRecords());
+    assertNull(roster.get("broken"));
+  }
+
+  @Test
+  public void testLoadHandsOnNewPlayersInBatches() throws IOException {
+    Path file = dir.resolve("players.csv");
+    Files.writeString(file, "Alice,Car\nBob,Hat\nAlice,Dog\nCarol,Ship\nDave,Plane\n");
+
+    PlayerRoster roster = new PlayerRoster(file);
+    List<List<PlayerRecord>> batches = new ArrayList<>();
+    assertEquals(4, roster.load(2, batches::add));
+    assertEquals(List.of(
+        List.of(new PlayerRecord("Alice", "Car"), new PlayerRecord("Bob", "Hat")),
+        List.of(new PlayerRecord("Carol", "Ship")),
+        List.of(new PlayerRecord("Dave", "Plane"))), batches);
+  }
+
+  @Test
+  public void testMissingFileIsEmpty() {
+    PlayerRoster roster = new PlayerRoster(dir.resolve("missing.csv"));
+    assertEquals(0, roster.load());
+  }
+
+  @Test
+  public void testAddIsWrittenOnFlush() throws IOException {
+    Path file = dir.resolve("players.csv");
+    PlayerRoster roster = new PlayerRoster(file);
+    roster.load();
+
+    assertTrue(roster.add(new PlayerRecord("Alice", "Car")));
+    assertFalse(roster.add(new PlayerRecord("Alice", "Dog")));
+    assertFalse(Files.exists(file));
+
+    roster.flush();
+    PlayerRoster reloaded = new PlayerRoster(file);
+    assertEquals(1, reloaded.load());
+    assertEquals("Car", reloaded.get("Alice").piece());
+  }
+
+  @Test
+  public void testFullBatchIsWrittenAtOnce() throws IOException {
+    Path file = dir.resolve("players.csv");
+    PlayerRoster roster = new PlayerRoster(file);
+    roster.load();
+    for (int i = 0; i < PlayerRoster.BATCH_SIZE; i++) {
+      roster.add(new PlayerRecord("Player" + i, "Car"));
+    }
+    assertEquals(PlayerRoster.BATCH_SIZE, Files.readAllLines(file).size());
+  }
+
+  @Test
+  public void testFlushStartsOnNewLineAfterCutLine() throws IOException {
+    Path file = dir.resolve("players.csv");
+    Files.writeString(file, "Alice,Car\nBob,Ha");
+    PlayerRoster roster = new PlayerRoster(file);
+    roster.load();
+    roster.add(new PlayerRecord("Carol", "Dog"));
+    roster.flush();
+
+    PlayerRoster reloaded = new PlayerRoster(file);
+    assertEquals(3, reloaded.load());
+    assertEquals("Dog", reloaded.get("Carol").piece());
+  }
+
+  @Test
+  public void testLoadCompactsDuplicates() throws IOException {
+    Path file = dir.resolve("players.csv");
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < PlayerRoster.MIN_COMPACT_LINES; i++) {
+      lines.add("Player" + (i % 10) + ",Car");
+    }
+    Files.write(file, lines);
+
+    PlayerRoster roster = new PlayerRoster(file);
+    assertEquals(10, roster.load());
+    assertFalse(roster.needsCompaction());
+    assertEquals(10, Files.readAllLines(file).size());
+    try (var files = Files.list(dir)) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  public void testImportAndExport() throws IOException {
+    Path other = dir.resolve("other.csv");
+    Files.writeString(other, "Alice,Dog\nBob,Hat\n");
+    PlayerRoster roster = new PlayerRoster(dir.resolve("players.csv"));
+    roster.load();
+    roster.add(new PlayerRecord("Alice", "Car"));
+
+    assertEquals(1, roster.importCsv(other));
+    assertEquals("Car", roster.get("Alice").piece());
+
+    Path exported = dir.resolve("exported.csv");
+    roster.exportCsv(exported);
+    assertEquals(List.of("Alice,Car", "Bob,Hat"), Files.readAllLines(exported));
+  }
+}
@@ -0,0 +1,77 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import model.entity.Questions;
+import model.util.BoardConfigLoader;
+import model.util.BoardConfigLoader.TileConfig;
+import model.util.QuestionLoader;
+import org.junit.jupiter.api.Test;
+
+public class QuestionLoaderTest {
+
+  private static InputStream json(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testLoadQuestionsFromResource() throws IOException {
+    Map<Integer, Questions> questions = QuestionLoader.loadQuestions("config/quiz/questions.json");
+    Questions first = questions.get(12);
+    assertEquals("What is the capital of France?", first.getQuestion());
+    assertEquals(List.of("Berlin", "Madrid", "Paris", "Rome"), first.getOptions());
+    assertEquals("Paris", first.getAnswer());
+  }
+
+  @Test
+  public void testUnknownFieldsAreSkipped() throws IOException {
+    Map<Integer, Questions> questions = QuestionLoader.readQuestions(json(
+        "[{\"tileId\": 5, \"extra\": {\"a\": [1, 2]}, \"question\": \"Q?\","
+            + " \"options\": [\"A\", \"B\"], \"answer\": \"B\"}]"));
+    assertEquals(1, questions.size());
+    assertEquals("B", questions.get(5).getAnswer());
+    assertEquals(List.of("A", "B"), questions.get(5).getOptions());
+  }
+
+  @Test
+  public void testLargeQuestionBankIsStreamed() throws IOException {
+    StringBuilder text = new StringBuilder("[");
+    for (int i = 0; i < 20_000; i++) {
+      text.append(i == 0 ? "" : ",").append("{\"tileId\": ").append(i)
+          .append(", \"question\": \"Q").append(i)
+          .append("\", \"options\": [\"x\", \"y\"], \"answer\": \"x\"}");
+    }
+    text.append("]");
+    int[] count = new int[1];
+    assertEquals(20_000, QuestionLoader.readQuestions(json(text.toString()), q -> count[0]++));
+    assertEquals(20_000, count[0]);
+  }
+
+  @Test
+  public void testQuestionWithoutTileIdThrowsException() {
+    assertThrows(IOException.class,
+        () -> QuestionLoader.readQuestions(json("[{\"question\": \"Q?\"}]")));
+  }
+
+  @Test
+  public void testMissingQuestionFileThrowsException() {
+    assertThrows(IOException.class, () -> QuestionLoader.loadQuestions("config/quiz/missing.json"));
+  }
+
+  @Test
+  public void testBoardConfigIsStreamed() throws IOException {
+    Map<Integer, TileConfig> config = BoardConfigLoader.readConfig(json(
+        "{\"name\": \"test\", \"tiles\": [{\"id\": 3, \"action\": {\"type\": \"LadderAction\","
+            + " \"destinationTileId\": 40, \"description\": \"up\"}}]}"));
+    assertEquals(1, config.size());
+    assertEquals(40, config.get(3).to);
+    assertEquals("up", config.get(3).message);
+    assertThrows(IOException.class,
+        () -> BoardConfigLoader.readConfig(json("{\"tiles\": [{\"id\": 3}]}")));
+  }
+}
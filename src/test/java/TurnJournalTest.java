@@ -0,0 +1,175 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import model.entity.BoardGame;
+import model.entity.GameEvent;
+import model.entity.Player;
+import model.exception.InvalidSnapshotException;
+import model.factory.BoardGameFactory;
+import model.util.TurnJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TurnJournalTest {
+
+  private static final String CONFIG = "config/snakes_and_ladders/sl_easy_config.json";
+
+  private BoardGame game;
+  private Path file;
+  private TurnJournal journal;
+
+  @TempDir
+  Path dir;
+
+  @BeforeEach
+  public void setUp() {
+    game = BoardGameFactory.createSnakesAndLadders(2);
+    game.addPlayer(new Player("Alice", game.getBoard(), "Car"));
+    game.addPlayer(new Player("Bob", game.getBoard(), "Hat"));
+    game.setCurrentPlayer(game.getPlayers().getFirst());
+    file = dir.resolve("game.journal");
+    journal = new TurnJournal(file);
+    game.addListener(event -> journal.append(game, event));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    journal.close();
+  }
+
+  private void playTurns(int turns) {
+    for (int i = 0; i < turns && game.getWinner() == null; i++) {
+      game.movePlayer(game.getCurrentplayer(), game.rollDice());
+      game.nextTurn();
+    }
+  }
+
+  @Test
+  public void testRecoverReplaysEventsOverSnapshot() throws IOException {
+    journal.checkpoint(game, CONFIG);
+    playTurns(5);
+    journal.sync().join();
+
+    BoardGame recovered = BoardGameFactory.createSnakesAndLadders(2);
+    assertEquals(CONFIG, TurnJournal.recover(file, recovered));
+    for (int i = 0; i < 2; i++) {
+      assertEquals(game.getPlayers().get(i).getCurrentTile().getTileId(),
+          recovered.getPlayers().get(i).getCurrentTile().getTileId());
+    }
+    assertEquals(game.getPlayers().indexOf(game.getCurrentplayer()),
+        recovered.getPlayers().indexOf(recovered.getCurrentplayer()));
+    assertEquals(game.getDice().getSum(), recovered.getDice().getSum());
+  }
+
+  @Test
+  public void testAnsweredEventRestoresScore() throws IOException {
+    BoardGame quiz = BoardGameFactory.createQuizGame(2);
+    quiz.addPlayer(new Player("Alice", quiz.getBoard(), "Car"));
+    quiz.addPlayer(new Player("Bob", quiz.getBoard(), "Hat"));
+    quiz.setCurrentPlayer(quiz.getPlayers().getFirst());
+    journal.checkpoint(quiz, null);
+
+    Player bob = quiz.getPlayers().get(1);
+    bob.setScore(4);
+    journal.append(quiz, new GameEvent(GameEvent.Type.ANSWERED, bob, 1, 1, 4));
+    journal.sync().join();
+
+    BoardGame recovered = BoardGameFactory.createQuizGame(2);
+    TurnJournal.recover(file, recovered);
+    assertEquals(4, recovered.getPlayers().get(1).getScore());
+  }
+
+  @Test
+  public void testTornTailIsIgnored() throws IOException {
+    journal.checkpoint(game, CONFIG);
+    game.movePlayer(game.getCurrentplayer(), 4);
+    journal.sync().join();
+    int tile = game.getCurrentplayer().getCurrentTile().getTileId();
+
+    game.movePlayer(game.getCurrentplayer(), 3);
+    journal.sync().join();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 2);
+    }
+
+    BoardGame recovered = BoardGameFactory.createSnakesAndLadders(2);
+    TurnJournal.recover(file, recovered);
+    assertEquals(tile, recovered.getPlayers().getFirst().getCurrentTile().getTileId());
+    assertSame(recovered.getPlayers().getFirst(), recovered.getCurrentplayer());
+  }
+
+  @Test
+  public void testCheckpointReplacesRecords() throws IOException {
+    journal.checkpoint(game, CONFIG);
+    for (int i = 0; i < TurnJournal.CHECKPOINT_INTERVAL + 101; i++) {
+      game.nextTurn();
+    }
+    journal.sync().join();
+    assertTrue(Files.size(file) < 1024, "Journal was " + Files.size(file) + " bytes");
+
+    BoardGame recovered = BoardGameFactory.createSnakesAndLadders(2);
+    TurnJournal.recover(file, recovered);
+    assertSame(recovered.getPlayers().get(1), recovered.getCurrentplayer());
+  }
+
+  @Test
+  public void testRemovedJournalIsWrittenAgain() throws IOException {
+    journal.checkpoint(game, CONFIG);
+    playTurns(2);
+    journal.sync().join();
+    Files.delete(file);
+
+    playTurns(2);
+    journal.sync().join();
+    BoardGame recovered = BoardGameFactory.createSnakesAndLadders(2);
+    assertEquals(CONFIG, TurnJournal.recover(file, recovered));
+    for (int i = 0; i < 2; i++) {
+      assertEquals(game.getPlayers().get(i).getCurrentTile().getTileId(),
+          recovered.getPlayers().get(i).getCurrentTile().getTileId());
+    }
+  }
+
+  @Test
+  public void testCloseAllWritesQueuedRecords() throws IOException {
+    journal.checkpoint(game, CONFIG);
+    playTurns(5);
+    assertTrue(TurnJournal.closeAll(5, TimeUnit.SECONDS));
+
+    BoardGame recovered = BoardGameFactory.createSnakesAndLadders(2);
+    TurnJournal.recover(file, recovered);
+    for (int i = 0; i < 2; i++) {
+      assertEquals(game.getPlayers().get(i).getCurrentTile().getTileId(),
+          recovered.getPlayers().get(i).getCurrentTile().getTileId());
+    }
+  }
+
+  @Test
+  public void testClearRemovesJournal() throws IOException {
+    journal.checkpoint(game, CONFIG);
+    playTurns(2);
+    journal.clear();
+    journal.sync().join();
+
+    assertFalse(Files.exists(file));
+    assertFalse(TurnJournal.canRecover(file));
+  }
+
+  @Test
+  public void testDamagedSnapshotIsRejected() throws IOException {
+    Files.write(file, new byte[] {5, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+    assertTrue(TurnJournal.canRecover(file));
+    BoardGame recovered = BoardGameFactory.createSnakesAndLadders(2);
+    assertThrows(InvalidSnapshotException.class, () -> TurnJournal.recover(file, recovered));
+  }
+}